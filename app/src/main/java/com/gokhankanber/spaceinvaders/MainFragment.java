@@ -16,6 +16,7 @@
 
 package com.gokhankanber.spaceinvaders;
 
+import android.content.Intent;
 import android.os.Bundle;
 import android.view.LayoutInflater;
 import android.view.View;
@@ -25,12 +26,30 @@ import com.badlogic.gdx.backends.android.AndroidFragmentApplication;
 
 public class MainFragment extends AndroidFragmentApplication
 {
+    private static final String EXTRA_BOT = "bot";
+    private static final String EXTRA_BOT_SKILL = "bot_skill";
+    private static final String EXTRA_RECORD = "record";
+    private static final String EXTRA_LATENCY = "latency";
+
     @Override
     public View onCreateView(LayoutInflater inflater, ViewGroup container, Bundle savedInstanceState)
     {
         AndroidApplicationConfiguration config = new AndroidApplicationConfiguration();
         config.useWakelock = true;
 
-        return initializeForView(new SpaceInvaders(getResources()), config);
+        // Soak test: adb shell am start -n com.gokhankanber.spaceinvaders/.MainActivity --ez bot true --ef bot_skill 0.8
+        Intent intent = getActivity().getIntent();
+        SpaceInvaders game = new SpaceInvaders(getResources());
+
+        if(intent.getBooleanExtra(EXTRA_BOT, false))
+        {
+            game.setBotSkill(intent.getFloatExtra(EXTRA_BOT_SKILL, 0.8f));
+        }
+
+        // Session recording: adb shell am start -n com.gokhankanber.spaceinvaders/.MainActivity --ez record true [--ez latency true]
+        game.setRecording(intent.getBooleanExtra(EXTRA_RECORD, false));
+        game.setLatencyRecording(intent.getBooleanExtra(EXTRA_LATENCY, false));
+
+        return initializeForView(game, config);
     }
 }
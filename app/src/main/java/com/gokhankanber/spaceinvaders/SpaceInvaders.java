@@ -18,13 +18,20 @@ package com.gokhankanber.spaceinvaders;
 
 import android.content.res.Resources;
 import com.badlogic.gdx.Game;
+import com.badlogic.gdx.Gdx;
 import com.gokhankanber.spaceinvaders.provider.Asset;
+import com.gokhankanber.spaceinvaders.provider.Config;
+import com.gokhankanber.spaceinvaders.provider.IDisplay;
+import com.gokhankanber.spaceinvaders.view.GameScreen;
 import com.gokhankanber.spaceinvaders.view.MainMenuScreen;
 
 public class SpaceInvaders extends Game
 {
     private Asset asset;
     private Resources resources;
+    private float botSkill = -1;
+    private boolean recording;
+    private boolean latencyRecording;
 
     public SpaceInvaders(Resources resources)
     {
@@ -34,8 +41,33 @@ public class SpaceInvaders extends Game
     @Override
     public void create()
     {
+        Config.setDisplay(display);
         asset = Asset.get();
-        setScreen(new MainMenuScreen(this));
+
+        if(isBot())
+        {
+            setScreen(new GameScreen(this));
+        }
+        else
+        {
+            setScreen(new MainMenuScreen(this));
+        }
+    }
+
+    @Override
+    public void pause()
+    {
+        super.pause();
+
+        asset.pause();
+    }
+
+    @Override
+    public void resume()
+    {
+        super.resume();
+
+        asset.resume();
     }
 
     @Override
@@ -55,4 +87,69 @@ public class SpaceInvaders extends Game
     {
         return resources;
     }
+
+    /**
+     * Plays games with a bot, and logs soak reports.
+     * @param botSkill from 0 to 1.
+     */
+    public void setBotSkill(float botSkill)
+    {
+        this.botSkill = botSkill;
+    }
+
+    public float getBotSkill()
+    {
+        return botSkill;
+    }
+
+    public boolean isBot()
+    {
+        return botSkill >= 0;
+    }
+
+    /**
+     * Records input of game sessions, and saves the recording of the last session to local storage to replay it.
+     * Recording is off by default, since a recording grows for the lifetime of a game screen.
+     * @param recording is true to record input.
+     */
+    public void setRecording(boolean recording)
+    {
+        this.recording = recording;
+    }
+
+    public boolean isRecording()
+    {
+        return recording;
+    }
+
+    /**
+     * Adds times of rendered frames to session recordings, so replay reports input latency.
+     * It is off by default, since it adds to recording on every frame.
+     * @param latencyRecording is true to record frames.
+     */
+    public void setLatencyRecording(boolean latencyRecording)
+    {
+        this.latencyRecording = latencyRecording;
+    }
+
+    public boolean isLatencyRecording()
+    {
+        return latencyRecording;
+    }
+
+    // Display interface instance for world size calculations.
+    private IDisplay display = new IDisplay()
+    {
+        @Override
+        public int getWidth()
+        {
+            return Gdx.graphics.getWidth();
+        }
+
+        @Override
+        public int getHeight()
+        {
+            return Gdx.graphics.getHeight();
+        }
+    };
 }
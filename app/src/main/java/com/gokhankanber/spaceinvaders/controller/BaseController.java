@@ -43,14 +43,14 @@ public abstract class BaseController implements IBaseController
         camera = new OrthographicCamera(Config.WIDTH, Config.getHeight());
         camera.position.set(camera.viewportWidth / 2, camera.viewportHeight / 2, 0);
         camera.update();
-        batch = new SpriteBatch();
+        batch = asset.getRegistry().createSpriteBatch();
         batch.setProjectionMatrix(camera.combined);
     }
 
     @Override
     public void release()
     {
-        batch.dispose();
+        asset.getRegistry().dispose(batch);
     }
 
     protected void clear()
@@ -20,6 +20,6 @@ public interface IBaseController
 {
     void init();
     void update(float delta);
-    void draw(float delta);
+    void draw(float alpha);
     void release();
 }
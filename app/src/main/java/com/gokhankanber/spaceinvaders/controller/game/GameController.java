@@ -17,54 +17,69 @@
 package com.gokhankanber.spaceinvaders.controller.game;
 
 import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.InputMultiplexer;
 import com.badlogic.gdx.graphics.Color;
 import com.badlogic.gdx.graphics.GL20;
-import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
-import com.badlogic.gdx.math.Rectangle;
+import com.badlogic.gdx.utils.StreamUtils;
 import com.gokhankanber.spaceinvaders.R;
 import com.gokhankanber.spaceinvaders.SpaceInvaders;
+import com.gokhankanber.spaceinvaders.bot.GameBot;
 import com.gokhankanber.spaceinvaders.controller.BaseController;
 import com.gokhankanber.spaceinvaders.controller.game.GameInputController.InputListener;
+import com.gokhankanber.spaceinvaders.controller.game.GameMenu.Type;
+import com.gokhankanber.spaceinvaders.controller.game.GameSession.SessionListener;
 import com.gokhankanber.spaceinvaders.model.World;
+import com.gokhankanber.spaceinvaders.profiler.Profiler;
+import com.gokhankanber.spaceinvaders.profiler.SoakMonitor;
 import com.gokhankanber.spaceinvaders.provider.Config;
+import com.gokhankanber.spaceinvaders.provider.Font;
+import com.gokhankanber.spaceinvaders.provider.ResourceRegistry;
+import com.gokhankanber.spaceinvaders.replay.InputRecorder;
+import com.gokhankanber.spaceinvaders.replay.InputRecording;
 import com.gokhankanber.spaceinvaders.view.MainMenuScreen;
+import java.io.IOException;
+import java.io.OutputStream;
 
 public class GameController extends BaseController
 {
-    private enum GameMenuType
-    {
-        PAUSE,
-        END
-    }
-
-    private final float gameMenuPaddingTop = 12;
-    private final float gameMenuWidth = 180;
-    private final float gameMenuHeight = 150;
-    private final float gameMenuX = (Config.WIDTH - gameMenuWidth) / 2;
-    private final float gameMenuY = (Config.getHeight() - gameMenuHeight) / 2;
-    private final float gameMenuItemWidth = 120.0f;
-    private final float gameMenuItemHeight = 30.0f;
-    private final float gameMenuItemX = (Config.WIDTH - gameMenuItemWidth) / 2;
     private final int menuItemFontSize = 24;
     private ShapeRenderer shapeRenderer;
     private Color gameMenuBackgroundColor;
-    private Rectangle[] menuItemBounds;
-    private Texture[] menuItemTextures;
-    private Texture gameEndMessageTexture;
+    private GameMenu gameMenu;
+    private Font font;
     private String gameEndMessage;
     private String[] gameMenuItems;
+    private String[] pauseMenuItems;
+    private String[] endMenuItems;
     private float gameEndMessageX;
     private float gameEndMessageY;
     private float[] gameMenuItemsFontX;
     private float[] gameMenuItemsFontY;
-    private float[] gameMenuItemsBoundY;
 
-    // Input, world, world renderer
+    // Input, session, world, world renderer
+    private final int inputQueueCapacity = 256;
     private GameInputController inputController;
+    private InputQueue inputQueue;
+    private InputRecorder inputRecorder;
+    private InputListener inputListener;
+    private boolean recordFrames;
+    private GameSession session;
     private World world;
     private WorldRenderer worldRenderer;
 
+    // Profiler and its overlay
+    private Profiler profiler;
+    private ProfilerOverlay profilerOverlay;
+
+    // Bot and soak report of bot mode
+    private final long soakReportTime = 60000000000L;
+    private final int soakFrameCapacity = 4096;
+    private GameBot bot;
+    private SoakMonitor soakMonitor;
+    private long lastFrameTime;
+    private long lastSoakReportTime;
+
     public GameController(SpaceInvaders game)
     {
         super(game);
@@ -75,71 +90,128 @@ public class GameController extends BaseController
     {
         super.init();
 
-        // Init input
-        inputController = new GameInputController(camera, inputListener);
-        Gdx.input.setInputProcessor(inputController);
+        // Init world and session
+        world = new World(asset);
+        session = new GameSession(world, sessionListener);
+        gameMenu = session.getGameMenu();
+        worldRenderer = new WorldRenderer(world, asset, batch, camera);
+        profiler = world.getProfiler();
+        profilerOverlay = new ProfilerOverlay(profiler, session.getLatencyTracker(), asset);
+
+        // Init input, and record it with world seed to replay session if recording is on.
+        if(game.isRecording())
+        {
+            inputRecorder = new InputRecorder(session, new InputRecording(world.getSeed(), Gdx.graphics.getWidth(), Gdx.graphics.getHeight()));
+            inputListener = inputRecorder;
+
+            // Frames are recorded for input latency of replay only if latency is measured.
+            recordFrames = game.isLatencyRecording();
+        }
+        else
+        {
+            inputListener = session;
+        }
+
+        inputQueue = new InputQueue(inputQueueCapacity);
+        inputQueue.setLatencyTracker(session.getLatencyTracker());
+        inputController = new GameInputController(camera, inputQueue);
+        Gdx.input.setInputProcessor(new InputMultiplexer(new ProfilerInputController(camera, profiler), inputController));
         Gdx.input.setCatchBackKey(true);
 
-        // Init world
-        world = new World(game);
-        worldRenderer = new WorldRenderer(world, batch, camera);
+        if(game.isBot())
+        {
+            // Bot input is recorded like touch input if recording is on, so soak sessions can be replayed.
+            bot = new GameBot(session, inputListener, game.getBotSkill(), world.getSeed());
+            soakMonitor = new SoakMonitor(soakFrameCapacity, "textures", "sprite caches", "shape renderers", "sprite batches", "GPU KB");
+            lastSoakReportTime = System.nanoTime();
+        }
 
-        // Init pause menu
-        resetGameMenu(GameMenuType.PAUSE);
+        // Init menu background, menu strings once, and pause menu
+        shapeRenderer = asset.getRegistry().createShapeRenderer();
+        shapeRenderer.setProjectionMatrix(camera.combined);
+        gameMenuBackgroundColor = new Color(0.0f, 0.0f, 0.0f, 0.9f);
+        font = asset.getFont();
+        loadMenuItems();
+        resetGameMenu(Type.PAUSE);
     }
 
     @Override
     public void update(float delta)
     {
-        if(world.isResumed() || world.isReady() || world.isLoading())
-        {
-            world.update(delta);
+        // Apply input of the last frame at the start of simulation step.
+        inputQueue.drain(inputListener);
 
-            if(world.isResetWorld())
-            {
-                worldRenderer.resetWorld(!world.getCommandAlienShip().isFlying());
-                world.setResetWorld(false);
-            }
-        }
-        else if(world.isEnding())
+        if(bot != null)
         {
-            world.update(delta);
+            session.getLatencyTracker().setInputTime(System.nanoTime());
+            bot.update();
+        }
 
-            if(!world.isWaitEnding())
-            {
-                if(world.isGameOver())
-                {
-                    gameEndMessage = game.getResources().getString(R.string.game_over);
-                }
-                else
-                {
-                    gameEndMessage = game.getResources().getString(R.string.win);
-                }
+        boolean playing = world.isResumed() || world.isReady() || world.isLoading();
+        session.update(delta);
 
-                Gdx.app.postRunnable(new Runnable()
-                {
-                    @Override
-                    public void run()
-                    {
-                        resetGameMenu(GameMenuType.END);
-                        world.end();
-                    }
-                });
-            }
+        if(playing && world.isResetWorld())
+        {
+            worldRenderer.resetWorld(!world.getCommandAlienShip().isFlying());
+            world.setResetWorld(false);
         }
     }
 
     @Override
-    public void draw(float delta)
+    public void draw(float alpha)
     {
+        profiler.frame();
         clear();
 
-        worldRenderer.render();
+        worldRenderer.render(alpha);
 
         if(world.isPaused() || world.isEnd())
         {
             drawGameMenu();
         }
+
+        if(profiler.isEnabled())
+        {
+            batch.begin();
+            profilerOverlay.draw(batch);
+            batch.end();
+        }
+
+        // Input applied in steps of this frame is visible after this frame.
+        long time = System.nanoTime();
+        session.getLatencyTracker().rendered(time);
+
+        if(recordFrames)
+        {
+            inputRecorder.frame(time);
+        }
+
+        if(soakMonitor != null)
+        {
+            updateSoakMonitor(time);
+        }
+    }
+
+    /**
+     * Adds frame time, and logs soak report every minute with live GPU resources of registry.
+     */
+    private void updateSoakMonitor(long time)
+    {
+        if(lastFrameTime > 0)
+        {
+            soakMonitor.add(time - lastFrameTime);
+        }
+
+        lastFrameTime = time;
+
+        if(time - lastSoakReportTime >= soakReportTime)
+        {
+            lastSoakReportTime = time;
+            ResourceRegistry registry = asset.getRegistry();
+            Gdx.app.log("Soak", soakMonitor.report(Gdx.app.getJavaHeap(), registry.getCount(ResourceRegistry.TEXTURE),
+                    registry.getCount(ResourceRegistry.SPRITE_CACHE), registry.getCount(ResourceRegistry.SHAPE_RENDERER),
+                    registry.getCount(ResourceRegistry.SPRITE_BATCH), registry.getBytes() / 1024));
+        }
     }
 
     @Override
@@ -147,96 +219,93 @@ public class GameController extends BaseController
     {
         super.release();
 
-        for(Texture texture : menuItemTextures)
+        asset.getRegistry().dispose(shapeRenderer);
+        worldRenderer.dispose();
+
+        if(inputRecorder != null)
         {
-            texture.dispose();
+            saveRecording();
         }
+    }
 
-        if(gameEndMessageTexture != null)
+    /**
+     * Saves input recording of session to local storage (replaced by the next session).
+     */
+    private void saveRecording()
+    {
+        OutputStream out = null;
+
+        try
         {
-            gameEndMessageTexture.dispose();
+            out = Gdx.files.local(Config.RECORDING_FILE).write(false);
+            inputRecorder.getRecording().write(out);
+        }
+        catch(IOException e)
+        {
+            Gdx.app.error("GameController", "Session recording is not saved.", e);
+        }
+        finally
+        {
+            StreamUtils.closeQuietly(out);
         }
-
-        shapeRenderer.dispose();
-        worldRenderer.dispose();
     }
 
     /**
      * Resets game menu content and creates game menu.
-     * Creates menu item click bounds.
+     * Menu item click bounds are reset by session.
      * @param gameMenuType is used to reset menu items.
      */
-    private void resetGameMenu(GameMenuType gameMenuType)
+    private void resetGameMenu(Type gameMenuType)
     {
         switch(gameMenuType)
         {
             case PAUSE:
-                pauseMenuItems();
+                gameMenuItems = pauseMenuItems;
                 break;
             case END:
-                endMenuItems();
+                gameEndMessage = game.getResources().getString(world.isGameOver() ? R.string.game_over : R.string.win);
+                gameMenuItems = endMenuItems;
                 break;
         }
 
         initGameMenu();
-
-        int menuItemsLength = gameMenuItems.length;
-        menuItemBounds = new Rectangle[menuItemsLength];
-
-        for(int i = 0; i < gameMenuItems.length; i++)
-        {
-            menuItemBounds[i] = new Rectangle(gameMenuItemX, gameMenuItemsBoundY[i], gameMenuItemWidth, gameMenuItemHeight);
-        }
     }
 
-    private void pauseMenuItems()
+    private void loadMenuItems()
     {
         // Get string values from res/values/strings.xml resource files.
-        gameMenuItems = new String[]{
+        pauseMenuItems = new String[]{
                 game.getResources().getString(R.string.resume),
                 game.getResources().getString(R.string.new_game),
                 game.getResources().getString(R.string.exit)
         };
-    }
 
-    private void endMenuItems()
-    {
-        gameMenuItems = new String[]{
+        endMenuItems = new String[]{
                 game.getResources().getString(R.string.new_game),
                 game.getResources().getString(R.string.exit)
         };
+
+        gameMenuItemsFontX = new float[pauseMenuItems.length];
+        gameMenuItemsFontY = new float[pauseMenuItems.length];
     }
 
     /**
-     * Creates black transparent background of game menu by using ShapeRenderer.
+     * Sets positions of game end message and menu items.
      */
     private void initGameMenu()
     {
-        shapeRenderer = new ShapeRenderer();
-        shapeRenderer.setProjectionMatrix(camera.combined);
-        gameMenuBackgroundColor = new Color(0.0f, 0.0f, 0.0f, 0.9f);
-
         int menuItemsLength = gameMenuItems.length;
-        gameMenuItemsFontX = new float[menuItemsLength];
-        gameMenuItemsFontY = new float[menuItemsLength];
-        gameMenuItemsBoundY = new float[menuItemsLength];
-        menuItemTextures = new Texture[menuItemsLength];
-        float height = gameMenuHeight;
 
-        if(world.isEnding())
+        if(gameMenu.getType() == Type.END)
         {
-            gameEndMessageTexture = asset.getTexture(gameEndMessage);
             gameEndMessageX = (Config.WIDTH - gameEndMessage.length() * menuItemFontSize) / 2;
-            gameEndMessageY = height + gameMenuY - gameMenuPaddingTop - (gameMenuItemHeight + menuItemFontSize) / 2;
-            height -= (gameMenuPaddingTop + gameMenuItemHeight);
+            gameEndMessageY = gameMenu.getHeight() + gameMenu.getY() - gameMenu.getPaddingTop() - (gameMenu.getItemHeight() + menuItemFontSize) / 2;
         }
 
         for(int i = 0; i < menuItemsLength; i++)
         {
-            menuItemTextures[i] = asset.getTexture(gameMenuItems[i]);
             gameMenuItemsFontX[i] = (Config.WIDTH - gameMenuItems[i].length() * menuItemFontSize) / 2;
-            gameMenuItemsBoundY[i] = (height + 2 * gameMenuY + (menuItemsLength * gameMenuItemHeight)) / 2 - (i + 1) * gameMenuItemHeight;
-            gameMenuItemsFontY[i] = gameMenuItemsBoundY[i] + (gameMenuItemHeight - menuItemFontSize) / 2;
+            gameMenuItemsFontY[i] = gameMenu.getItemBounds(i).y + (gameMenu.getItemHeight() - menuItemFontSize) / 2;
         }
     }
 
@@ -250,7 +319,7 @@ public class GameController extends BaseController
         Gdx.gl.glEnable(GL20.GL_BLEND);
         shapeRenderer.begin(ShapeRenderer.ShapeType.Filled);
         shapeRenderer.setColor(gameMenuBackgroundColor);
-        shapeRenderer.rect(gameMenuX, gameMenuY, gameMenuWidth, gameMenuHeight);
+        shapeRenderer.rect(gameMenu.getX(), gameMenu.getY(), gameMenu.getWidth(), gameMenu.getHeight());
         shapeRenderer.end();
         Gdx.gl.glDisable(GL20.GL_BLEND);
 
@@ -258,94 +327,43 @@ public class GameController extends BaseController
 
         if(world.isEnd())
         {
-            batch.draw(gameEndMessageTexture, gameEndMessageX, gameEndMessageY, gameEndMessage.length() * menuItemFontSize, menuItemFontSize);
+            font.draw(batch, gameEndMessage, gameEndMessageX, gameEndMessageY, menuItemFontSize);
         }
 
         for(int i = 0; i < gameMenuItems.length; i++)
         {
-            batch.draw(menuItemTextures[i], gameMenuItemsFontX[i], gameMenuItemsFontY[i], gameMenuItems[i].length() * menuItemFontSize, menuItemFontSize);
+            font.draw(batch, gameMenuItems[i], gameMenuItemsFontX[i], gameMenuItemsFontY[i], menuItemFontSize);
         }
 
         batch.end();
     }
 
-    private InputListener inputListener = new InputListener()
+    private SessionListener sessionListener = new SessionListener()
     {
         @Override
-        public void back()
+        public void buttonClicked()
         {
             asset.playButtonSound();
-
-            // Back button toggles between pause and resume.
-            if(world.isResumed())
-            {
-                world.pause();
-            }
-            else if(world.isPaused())
-            {
-                world.resume();
-            }
         }
 
         @Override
-        public void move(float amount)
+        public void gameMenuChanged(Type type)
         {
-            // Move by amount of change in x coordinate.
-            if(world.isResumed() && world.getLaserCannon().isAlive())
-            {
-                world.getLaserCannon().move(amount);
-            }
+            resetGameMenu(type);
         }
 
         @Override
-        public void check(float x, float y)
+        public void exit()
         {
-            // Check user touch for world states.
-            if(world.isReady())
-            {
-                world.resume();
-            }
-            else if(world.isResumed() && world.getLaserCannon().isAlive())
+            // Input is applied in a simulation step, so change screen after the frame.
+            Gdx.app.postRunnable(new Runnable()
             {
-                world.createLaser();
-            }
-            else if(world.isPaused())
-            {
-                if(menuItemBounds[0].contains(x, y))
-                {
-                    // Pause menu: Resume.
-                    asset.playButtonSound();
-                    world.resume();
-                }
-                else if(menuItemBounds[1].contains(x, y))
-                {
-                    // Pause menu: New.
-                    asset.playButtonSound();
-                    world.newLevel(true);
-                }
-                else if(menuItemBounds[2].contains(x, y))
-                {
-                    // Pause menu: Exit.
-                    asset.playButtonSound();
-                    game.setScreen(new MainMenuScreen(game));
-                }
-            }
-            else if(world.isEnd())
-            {
-                if(menuItemBounds[0].contains(x, y))
-                {
-                    // Win / game over menu: New.
-                    asset.playButtonSound();
-                    world.newLevel(true);
-                    resetGameMenu(GameMenuType.PAUSE);
-                }
-                else if(menuItemBounds[1].contains(x, y))
+                @Override
+                public void run()
                 {
-                    // Win / game over menu: Exit.
-                    asset.playButtonSound();
                     game.setScreen(new MainMenuScreen(game));
                 }
-            }
+            });
         }
     };
 }
@@ -0,0 +1,55 @@
+/*
+ * Copyright 2018 Gökhan Kanber
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.gokhankanber.spaceinvaders.controller.game;
+
+import com.badlogic.gdx.graphics.OrthographicCamera;
+import com.gokhankanber.spaceinvaders.controller.BaseInputController;
+import com.gokhankanber.spaceinvaders.profiler.Profiler;
+
+/**
+ * Toggles profiler with a three finger touch.
+ * Does not handle events, so game input controller receives them.
+ */
+public class ProfilerInputController extends BaseInputController
+{
+    private final int togglePointer = 2;
+    private Profiler profiler;
+
+    public ProfilerInputController(OrthographicCamera camera, Profiler profiler)
+    {
+        super(camera);
+
+        this.profiler = profiler;
+    }
+
+    @Override
+    public boolean touchDown(int screenX, int screenY, int pointer, int button)
+    {
+        if(pointer == togglePointer)
+        {
+            profiler.toggle();
+        }
+
+        return false;
+    }
+
+    @Override
+    public boolean touchUp(int screenX, int screenY, int pointer, int button)
+    {
+        return false;
+    }
+}
@@ -0,0 +1,141 @@
+/*
+ * Copyright 2018 Gökhan Kanber
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.gokhankanber.spaceinvaders.controller.game;
+
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.gokhankanber.spaceinvaders.profiler.Histogram;
+import com.gokhankanber.spaceinvaders.profiler.LatencyTracker;
+import com.gokhankanber.spaceinvaders.profiler.Profiler;
+import com.gokhankanber.spaceinvaders.provider.Asset;
+import com.gokhankanber.spaceinvaders.provider.Config;
+import com.gokhankanber.spaceinvaders.provider.Font;
+import com.gokhankanber.spaceinvaders.provider.ResourceRegistry;
+import com.gokhankanber.spaceinvaders.provider.Sprite;
+
+/**
+ * Draws p50, p95, and p99 times of profiler sections and input latencies in microseconds, garbage collection count,
+ * and live GPU resources of registry.
+ * Section names are drawn with font, and numbers with digit sprites of scoreboard.
+ */
+public class ProfilerOverlay
+{
+    private final int updateFrames = 30;
+    private final int fontSize = 8;
+    private final int digitWidth = 6;
+    private final int digitHeight = 12;
+    private final int digitSpace = 2;
+    private final int lineHeight = 14;
+    private final int columnWidth = 56;
+    private final int x = 8;
+    private final int y = (int) Config.getHeight() - 40;
+    private final int valueX = x + 11 * fontSize;
+    private Profiler profiler;
+    private LatencyTracker latencyTracker;
+    private ResourceRegistry registry;
+    private Font font;
+    private TextureRegion[] digits;
+    private final int[] number = new int[10];
+    private int frames;
+
+    public ProfilerOverlay(Profiler profiler, LatencyTracker latencyTracker, Asset asset)
+    {
+        this.profiler = profiler;
+        this.latencyTracker = latencyTracker;
+
+        registry = asset.getRegistry();
+        font = asset.getFont();
+        digits = new TextureRegion(asset.getSprites(), Sprite.DIGITS[0], Sprite.DIGITS[1], Sprite.DIGITS[2],
+                Sprite.DIGITS[3]).split(Sprite.DIGITS[2] / 10, Sprite.DIGITS[3])[0];
+    }
+
+    /**
+     * Draws overlay between begin and end calls of batch. Percentiles are updated every 30 frames.
+     * @param batch to draw.
+     */
+    public void draw(SpriteBatch batch)
+    {
+        if(++frames >= updateFrames)
+        {
+            frames = 0;
+            profiler.update();
+            latencyTracker.update();
+        }
+
+        font.draw(batch, "US", x, y, fontSize);
+        font.draw(batch, "P50", valueX, y, fontSize);
+        font.draw(batch, "P95", valueX + columnWidth, y, fontSize);
+        font.draw(batch, "P99", valueX + 2 * columnWidth, y, fontSize);
+
+        float lineY = y;
+
+        for(int i = 0; i < Profiler.SECTION_COUNT; i++)
+        {
+            lineY -= lineHeight;
+            drawLine(batch, Profiler.getName(i), profiler.getHistogram(i), lineY);
+        }
+
+        for(int i = 0; i < LatencyTracker.KIND_COUNT; i++)
+        {
+            lineY -= lineHeight;
+            drawLine(batch, LatencyTracker.getName(i), latencyTracker.getHistogram(i), lineY);
+        }
+
+        lineY -= lineHeight;
+        font.draw(batch, "GC", x, lineY, fontSize);
+        drawNumber(batch, profiler.getGcCount(), valueX, lineY);
+
+        for(int i = 0; i < ResourceRegistry.TYPE_COUNT; i++)
+        {
+            lineY -= lineHeight;
+            font.draw(batch, ResourceRegistry.getName(i), x, lineY, fontSize);
+            drawNumber(batch, registry.getCount(i), valueX, lineY);
+        }
+
+        lineY -= lineHeight;
+        font.draw(batch, "GPU KB", x, lineY, fontSize);
+        drawNumber(batch, registry.getBytes() / 1024, valueX, lineY);
+    }
+
+    private void drawLine(SpriteBatch batch, String name, Histogram histogram, float lineY)
+    {
+        font.draw(batch, name, x, lineY, fontSize);
+        drawNumber(batch, histogram.getP50() / 1000, valueX, lineY);
+        drawNumber(batch, histogram.getP95() / 1000, valueX + columnWidth, lineY);
+        drawNumber(batch, histogram.getP99() / 1000, valueX + 2 * columnWidth, lineY);
+    }
+
+    /**
+     * Draws a number with digit sprites without creating a string.
+     */
+    private void drawNumber(SpriteBatch batch, long value, float numberX, float numberY)
+    {
+        int count = 0;
+
+        do
+        {
+            number[count++] = (int) (value % 10);
+            value /= 10;
+        }
+        while(value > 0 && count < number.length);
+
+        for(int i = 0; i < count; i++)
+        {
+            batch.draw(digits[number[count - 1 - i]], numberX + i * (digitWidth + digitSpace), numberY, digitWidth, digitHeight);
+        }
+    }
+}
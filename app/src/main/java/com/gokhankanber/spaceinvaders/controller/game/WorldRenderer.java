@@ -17,21 +17,26 @@
 package com.gokhankanber.spaceinvaders.controller.game;
 
 import com.badlogic.gdx.graphics.OrthographicCamera;
+import com.badlogic.gdx.graphics.Pixmap;
 import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.Animation;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.badlogic.gdx.graphics.g2d.SpriteCache;
 import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.math.MathUtils;
 import com.gokhankanber.spaceinvaders.model.CommandAlienShip;
 import com.gokhankanber.spaceinvaders.model.Explosion;
 import com.gokhankanber.spaceinvaders.model.Ground;
-import com.gokhankanber.spaceinvaders.model.Invader;
+import com.gokhankanber.spaceinvaders.model.InvaderFormation;
 import com.gokhankanber.spaceinvaders.model.Laser;
 import com.gokhankanber.spaceinvaders.model.LaserCannon;
 import com.gokhankanber.spaceinvaders.model.Shield;
 import com.gokhankanber.spaceinvaders.model.World;
+import com.gokhankanber.spaceinvaders.profiler.Profiler;
 import com.gokhankanber.spaceinvaders.provider.Asset;
-import com.gokhankanber.spaceinvaders.provider.Config;
+import com.gokhankanber.spaceinvaders.provider.Digits;
+import com.gokhankanber.spaceinvaders.provider.ResourceRegistry;
+import com.gokhankanber.spaceinvaders.provider.Sprite;
 import java.util.List;
 
 public class WorldRenderer
@@ -43,10 +48,16 @@ public class WorldRenderer
     private final int digitSpaceWidth = 6;
     private final int scoreWidth = 4 * digitWidth + 3 * digitSpaceWidth;
     private final int boardX = 16;
-    private final int boardY = (int) Config.getHeight() - paddingTop - digitHeight;
+    private int boardY;
     private final int livesX = boardX + scoreWidth + 2 * digitWidth;
     private final int levelNumberX = livesX + 3 * digitWidth;
 
+    // Scoreboard digits: score (rolls over after 9999), lives, and level number.
+    private final int scoreDigits = 4;
+    private final int livesDigit = scoreDigits;
+    private final int levelDigit = scoreDigits + 1;
+    private final int digitCount = scoreDigits + 2;
+
     // Render
     private World world;
     private SpriteBatch batch;
@@ -55,12 +66,17 @@ public class WorldRenderer
     private Ground ground;
     private LaserCannon laserCannon;
     private List<Shield> shields;
-    private List<Invader> invaders;
+    private InvaderFormation invaderFormation;
     private List<Laser> lasers;
     private List<Explosion> explosions;
     private CommandAlienShip commandAlienShip;
     private SpriteCache cache;
-    private int cacheId;
+    private int staticCacheId;
+    private int shieldCount;
+    private int[] digitCacheIds;
+    private int[] digitValues;
+    private boolean scoreboard;
+    private Profiler profiler;
 
     private TextureRegion groundRegion;
     private TextureRegion commandAlienShipRegion;
@@ -72,178 +88,272 @@ public class WorldRenderer
     private Animation<TextureRegion> thirdInvader;
     private TextureRegion invaderExplosion;
     private TextureRegion laserCannonRegion;
-    private TextureRegion shieldRegion;
+    private Texture shieldTexture;
+    private TextureRegion[] shieldRegions;
+    private Pixmap shieldRow;
     private Animation<TextureRegion> playerExplosion;
     private Animation<TextureRegion> laserOne;
     private Animation<TextureRegion> laserTwo;
     private Animation<TextureRegion> laserThree;
     private TextureRegion playerLaser;
     private TextureRegion[] digits;
-    private int invaderLoaderCount;
 
-    public WorldRenderer(World world, SpriteBatch batch, OrthographicCamera camera)
+    public WorldRenderer(World world, Asset asset, SpriteBatch batch, OrthographicCamera camera)
     {
         this.world = world;
+        this.asset = asset;
         this.batch = batch;
         this.camera = camera;
-        asset = world.getAsset();
 
         ground = world.getGround();
         laserCannon = world.getLaserCannon();
         shields = world.getShields();
-        invaders = world.getInvaders();
+        invaderFormation = world.getInvaderFormation();
         lasers = world.getLasers();
         explosions = world.getExplosions();
         commandAlienShip = world.getCommandAlienShip();
+        profiler = world.getProfiler();
 
         createModelViews();
-        resetWorld(true);
+        createCache();
     }
 
-    public void render()
+    /**
+     * Renders world.
+     * @param alpha is interpolation value between previous and current simulation step.
+     */
+    public void render(float alpha)
     {
+        profiler.begin(Profiler.RENDER);
+        updateShields();
+
+        profiler.begin(Profiler.BOARD);
         drawBoard();
+        profiler.end(Profiler.BOARD);
 
+        profiler.begin(Profiler.BATCH);
         batch.begin();
 
         drawInvaders();
-        drawCommandAlienShip();
+        drawCommandAlienShip(alpha);
         drawLaserCannon();
-        drawLasers();
+        drawLasers(alpha);
         drawExplosions();
 
         batch.end();
+        profiler.end(Profiler.BATCH);
+        profiler.end(Profiler.RENDER);
     }
 
     public void dispose()
     {
-        groundRegion.getTexture().dispose();
-        cache.dispose();
+        ResourceRegistry registry = asset.getRegistry();
+        registry.dispose(shieldTexture);
+        registry.dispose(cache);
+        shieldRow.dispose();
+    }
+
+    /**
+     * Creates SpriteCache once with a cache of static layer (ground and shields), and a cache for each digit of scoreboard.
+     * Caches are redefined in place, so a cache can not have more sprites than when it is created.
+     */
+    private void createCache()
+    {
+        createShieldTexture();
+        cache = asset.getRegistry().createSpriteCache(1 + shieldCount + digitCount, false);
+
+        cache.beginCache();
+        addGround();
+        addShields();
+        staticCacheId = cache.endCache();
+
+        // Board is at the top of rendered world.
+        boardY = (int) world.getHeight() - paddingTop - digitHeight;
+        digitCacheIds = new int[digitCount];
+        digitValues = new int[digitCount];
+
+        for(int i = 0; i < digitCount; i++)
+        {
+            cache.beginCache();
+            cache.add(digits[0], getDigitX(i), boardY, digitWidth, digitHeight);
+            digitCacheIds[i] = cache.endCache();
+        }
+
+        resetWorld(true);
     }
 
     private void createModelViews()
     {
         Texture sprites = asset.getSprites();
 
-        commandAlienShipRegion = new TextureRegion(sprites, Asset.COMMAND_ALIEN_SHIP[0],
-                Asset.COMMAND_ALIEN_SHIP[1], Asset.COMMAND_ALIEN_SHIP[2] / 2, Asset.COMMAND_ALIEN_SHIP[3]);
+        commandAlienShipRegion = new TextureRegion(sprites, Sprite.COMMAND_ALIEN_SHIP[0],
+                Sprite.COMMAND_ALIEN_SHIP[1], Sprite.COMMAND_ALIEN_SHIP[2] / 2, Sprite.COMMAND_ALIEN_SHIP[3]);
 
-        commandAlienShipExplosion = new TextureRegion(sprites, Asset.COMMAND_ALIEN_SHIP[2] / 2,
-                Asset.COMMAND_ALIEN_SHIP[1], Asset.COMMAND_ALIEN_SHIP[2] / 2, Asset.COMMAND_ALIEN_SHIP[3]);
+        commandAlienShipExplosion = new TextureRegion(sprites, Sprite.COMMAND_ALIEN_SHIP[2] / 2,
+                Sprite.COMMAND_ALIEN_SHIP[1], Sprite.COMMAND_ALIEN_SHIP[2] / 2, Sprite.COMMAND_ALIEN_SHIP[3]);
 
-        invaderLaserExplosion = new TextureRegion(sprites, Asset.INVADER_LASER_EXPLOSION[0],
-                Asset.INVADER_LASER_EXPLOSION[1], Asset.INVADER_LASER_EXPLOSION[2], Asset.INVADER_LASER_EXPLOSION[3]);
+        invaderLaserExplosion = new TextureRegion(sprites, Sprite.INVADER_LASER_EXPLOSION[0],
+                Sprite.INVADER_LASER_EXPLOSION[1], Sprite.INVADER_LASER_EXPLOSION[2], Sprite.INVADER_LASER_EXPLOSION[3]);
 
-        playerLaserExplosion = new TextureRegion(sprites, Asset.PLAYER_LASER_EXPLOSION[0],
-                Asset.PLAYER_LASER_EXPLOSION[1], Asset.PLAYER_LASER_EXPLOSION[2], Asset.PLAYER_LASER_EXPLOSION[3]);
+        playerLaserExplosion = new TextureRegion(sprites, Sprite.PLAYER_LASER_EXPLOSION[0],
+                Sprite.PLAYER_LASER_EXPLOSION[1], Sprite.PLAYER_LASER_EXPLOSION[2], Sprite.PLAYER_LASER_EXPLOSION[3]);
 
-        TextureRegion[] invaderOne = new TextureRegion(sprites, Asset.INVADER_ONE[0],
-                Asset.INVADER_ONE[1], Asset.INVADER_ONE[2], Asset.INVADER_ONE[3])
-                .split(Asset.INVADER_ONE[2] / 2, Asset.INVADER_ONE[3])[0];
+        TextureRegion[] invaderOne = new TextureRegion(sprites, Sprite.INVADER_ONE[0],
+                Sprite.INVADER_ONE[1], Sprite.INVADER_ONE[2], Sprite.INVADER_ONE[3])
+                .split(Sprite.INVADER_ONE[2] / 2, Sprite.INVADER_ONE[3])[0];
         firstInvader = new Animation<>(1.0f, invaderOne[0], invaderOne[1]);
 
-        TextureRegion[] invaderTwo = new TextureRegion(sprites, Asset.INVADER_TWO[0],
-                Asset.INVADER_TWO[1], Asset.INVADER_TWO[2], Asset.INVADER_TWO[3])
-                .split(Asset.INVADER_TWO[2] / 2, Asset.INVADER_TWO[3])[0];
+        TextureRegion[] invaderTwo = new TextureRegion(sprites, Sprite.INVADER_TWO[0],
+                Sprite.INVADER_TWO[1], Sprite.INVADER_TWO[2], Sprite.INVADER_TWO[3])
+                .split(Sprite.INVADER_TWO[2] / 2, Sprite.INVADER_TWO[3])[0];
         secondInvader = new Animation<>(1.0f, invaderTwo[0], invaderTwo[1]);
 
-        TextureRegion[] invaderThree = new TextureRegion(sprites, Asset.INVADER_THREE[0],
-                Asset.INVADER_THREE[1], Asset.INVADER_THREE[2], Asset.INVADER_THREE[3])
-                .split(Asset.INVADER_THREE[2] / 2, Asset.INVADER_THREE[3])[0];
+        TextureRegion[] invaderThree = new TextureRegion(sprites, Sprite.INVADER_THREE[0],
+                Sprite.INVADER_THREE[1], Sprite.INVADER_THREE[2], Sprite.INVADER_THREE[3])
+                .split(Sprite.INVADER_THREE[2] / 2, Sprite.INVADER_THREE[3])[0];
         thirdInvader = new Animation<>(1.0f, invaderThree[0], invaderThree[1]);
 
-        invaderExplosion = new TextureRegion(sprites, Asset.INVADER_EXPLOSION[0], Asset.INVADER_EXPLOSION[1],
-                Asset.INVADER_EXPLOSION[2], Asset.INVADER_EXPLOSION[3]);
-
-        laserCannonRegion = new TextureRegion(sprites, Asset.PLAYER[0], Asset.PLAYER[1], Asset.PLAYER[2], Asset.PLAYER[3]);
+        invaderExplosion = new TextureRegion(sprites, Sprite.INVADER_EXPLOSION[0], Sprite.INVADER_EXPLOSION[1],
+                Sprite.INVADER_EXPLOSION[2], Sprite.INVADER_EXPLOSION[3]);
 
-        shieldRegion = new TextureRegion(sprites, Asset.SHIELD[0], Asset.SHIELD[1], Asset.SHIELD[2], Asset.SHIELD[3]);
+        laserCannonRegion = new TextureRegion(sprites, Sprite.PLAYER[0], Sprite.PLAYER[1], Sprite.PLAYER[2], Sprite.PLAYER[3]);
 
-        TextureRegion[] playerExplosions = new TextureRegion(sprites, Asset.PLAYER_EXPLOSION[0],
-                Asset.PLAYER_EXPLOSION[1], Asset.PLAYER_EXPLOSION[2], Asset.PLAYER_EXPLOSION[3])
-                .split(Asset.PLAYER_EXPLOSION[2] / 2, Asset.PLAYER_EXPLOSION[3])[0];
+        TextureRegion[] playerExplosions = new TextureRegion(sprites, Sprite.PLAYER_EXPLOSION[0],
+                Sprite.PLAYER_EXPLOSION[1], Sprite.PLAYER_EXPLOSION[2], Sprite.PLAYER_EXPLOSION[3])
+                .split(Sprite.PLAYER_EXPLOSION[2] / 2, Sprite.PLAYER_EXPLOSION[3])[0];
         playerExplosion = new Animation<>(0.1f, playerExplosions);
 
-        TextureRegion[] lasers = new TextureRegion(sprites, Asset.LASERS[0], Asset.LASERS[1], Asset.LASERS[2],
-                Asset.LASERS[3]).split(Asset.LASERS[2] / 12, Asset.LASERS[3])[0];
+        TextureRegion[] lasers = new TextureRegion(sprites, Sprite.LASERS[0], Sprite.LASERS[1], Sprite.LASERS[2],
+                Sprite.LASERS[3]).split(Sprite.LASERS[2] / 12, Sprite.LASERS[3])[0];
         laserOne = new Animation<>(0.1f, lasers[0], lasers[1], lasers[2], lasers[3]);
         laserTwo = new Animation<>(0.1f, lasers[4], lasers[5], lasers[6], lasers[7]);
         laserThree = new Animation<>(0.1f, lasers[8], lasers[9], lasers[10], lasers[11]);
 
-        playerLaser = new TextureRegion(sprites, Asset.PLAYER_LASER[0], Asset.PLAYER_LASER[1],
-                Asset.PLAYER_LASER[2], Asset.PLAYER_LASER[3]);
+        playerLaser = new TextureRegion(sprites, Sprite.PLAYER_LASER[0], Sprite.PLAYER_LASER[1],
+                Sprite.PLAYER_LASER[2], Sprite.PLAYER_LASER[3]);
+
+        digits = new TextureRegion(sprites, Sprite.DIGITS[0], Sprite.DIGITS[1], Sprite.DIGITS[2],
+                Sprite.DIGITS[3]).split(Sprite.DIGITS[2] / 10, Sprite.DIGITS[3])[0];
 
-        digits = new TextureRegion(sprites, Asset.DIGITS[0], Asset.DIGITS[1], Asset.DIGITS[2],
-                Asset.DIGITS[3]).split(Asset.DIGITS[2] / 10, Asset.DIGITS[3])[0];
+        groundRegion = new TextureRegion(asset.getTexture(0x234005ff));
     }
 
     /**
-     * Creates a scoreboard with score, lives, and level number by using SpriteCache.
+     * Creates a texture with a region for each shield, and a pixmap of one shield row for uploading changed rows.
+     * Static cache references shield texture, so uploaded rows are drawn without redefining cache.
      */
-    public void resetWorld(boolean scoreboard)
+    private void createShieldTexture()
     {
-        int size;
-        int[] score = null;
-        int[] lives = null;
-        int[] level = null;
+        shieldCount = shields.size();
+        int width = Sprite.SHIELD[2];
+        int height = Sprite.SHIELD[3];
 
-        if(scoreboard)
+        shieldTexture = asset.getRegistry().createTexture(MathUtils.nextPowerOfTwo(shieldCount * width), MathUtils.nextPowerOfTwo(height), Pixmap.Format.RGBA8888);
+        shieldRegions = new TextureRegion[shieldCount];
+
+        for(int i = 0; i < shieldCount; i++)
         {
-            size = 11; // score: 4, lives: 1, level: 1, ground: 1, shields: 4
-            score = buildNumber(laserCannon.points, 4);
-            lives = buildNumber(laserCannon.lives > 0 ? laserCannon.lives : 0);
-            level = buildNumber(laserCannon.level);
+            shieldRegions[i] = new TextureRegion(shieldTexture, i * width, 0, width, height);
         }
-        else
+
+        shieldRow = new Pixmap(width, 1, Pixmap.Format.RGBA8888);
+        shieldRow.setBlending(Pixmap.Blending.None);
+    }
+
+    /**
+     * Uploads dirty rows of shield masks to shield texture.
+     */
+    private void updateShields()
+    {
+        int color = Sprite.SHIELD[4];
+
+        for(int i = 0; i < shieldCount; i++)
         {
-            size = 5;
+            Shield shield = shields.get(i);
+
+            if(shield.isDirty())
+            {
+                profiler.begin(Profiler.SHIELDS);
+                int columns = shield.getColumns();
+
+                for(int row = shield.getDirtyTop(); row <= shield.getDirtyBottom(); row++)
+                {
+                    for(int column = 0; column < columns; column++)
+                    {
+                        shieldRow.drawPixel(column, 0, shield.isSolid(column, row) ? color : 0);
+                    }
+
+                    shieldTexture.draw(shieldRow, i * columns, row);
+                }
+
+                shield.clearDirty();
+                profiler.end(Profiler.SHIELDS);
+            }
         }
+    }
+
+    /**
+     * Updates scoreboard with score, lives, and level number.
+     * Only changed digits are redefined in SpriteCache. Shields are updated in shield texture.
+     * @param scoreboard is hidden while command alien ship is flying.
+     */
+    public void resetWorld(boolean scoreboard)
+    {
+        this.scoreboard = scoreboard;
+        profiler.begin(Profiler.CACHE);
 
-        if(cache != null)
+        for(int i = 0; i < scoreDigits; i++)
         {
-            cache.dispose();
+            setDigit(i, Digits.getDigit(laserCannon.points, scoreDigits - 1 - i));
         }
 
-        cache = new SpriteCache(size, false);
-        cache.beginCache();
+        setDigit(livesDigit, Digits.getDigit(laserCannon.lives > 0 ? laserCannon.lives : 0, 0));
+        setDigit(levelDigit, Digits.getDigit(laserCannon.level, 0));
+        profiler.end(Profiler.CACHE);
+    }
 
-        add(score, boardX);
-        add(lives, livesX);
-        add(level, levelNumberX);
-        addShields();
-        addGround();
+    private void setDigit(int index, int value)
+    {
+        if(digitValues[index] != value)
+        {
+            digitValues[index] = value;
 
-        cacheId = cache.endCache();
+            cache.beginCache(digitCacheIds[index]);
+            cache.add(digits[value], getDigitX(index), boardY, digitWidth, digitHeight);
+            cache.endCache();
+        }
     }
 
     /**
-     * Adds score, lives, and level number to board.
-     * @param number
+     * Returns x coordinate of scoreboard digit.
+     * @param index of digit.
+     * @return x coordinate.
      */
-    private void add(int[] number, int startX)
+    private int getDigitX(int index)
     {
-        if(number != null)
+        if(index == livesDigit)
         {
-            int length = number.length;
-
-            for(int i = 0; i < length; i++)
-            {
-                cache.add(digits[number[i]], startX + i * (digitWidth + digitSpaceWidth), boardY, digitWidth, digitHeight);
-            }
+            return livesX;
+        }
+        else if(index == levelDigit)
+        {
+            return levelNumberX;
         }
+
+        return boardX + index * (digitWidth + digitSpaceWidth);
     }
 
     private void addGround()
     {
-        groundRegion = new TextureRegion(asset.getTexture(0x234005ff));
         cache.add(groundRegion, ground.getX(), ground.getY(), ground.getWidth(), ground.getHeight());
     }
 
     private void addShields()
     {
-        for(Shield shield : shields)
+        for(int i = 0; i < shieldCount; i++)
         {
-            cache.add(shieldRegion, shield.getX(), shield.getY(), shield.getWidth(), shield.getHeight());
+            Shield shield = shields.get(i);
+            cache.add(shieldRegions[i], shield.getX(), shield.getY(), shield.getWidth(), shield.getHeight());
         }
     }
 
@@ -251,81 +361,80 @@ public class WorldRenderer
     {
         cache.setProjectionMatrix(camera.combined);
         cache.begin();
-        cache.draw(cacheId);
+        cache.draw(staticCacheId);
+
+        if(scoreboard)
+        {
+            for(int i = 0; i < digitCount; i++)
+            {
+                cache.draw(digitCacheIds[i]);
+            }
+        }
+
         cache.end();
     }
 
     private void drawInvaders()
     {
-        if(world.isLoading())
-        {
-            loadInvaders();
-        }
-
-        for(Invader invader : invaders)
+        for(int slot = invaderFormation.nextAlive(0); slot >= 0; slot = invaderFormation.nextAlive(slot + 1))
         {
-            if(invader.isVisible())
+            if(invaderFormation.isVisible(slot))
             {
-                switch(invader.getRowIndex())
+                Animation<TextureRegion> animation;
+
+                switch(invaderFormation.getType(slot))
                 {
-                    case 0:
                     case 1:
-                        batch.draw(firstInvader.getKeyFrame(invader.getStateTime(), true), invader.getX(), invader.getY(), Invader.INVADER_MAX_WIDTH, Invader.INVADER_MAX_HEIGHT);
+                        animation = secondInvader;
                         break;
                     case 2:
-                    case 3:
-                        batch.draw(secondInvader.getKeyFrame(invader.getStateTime(), true), invader.getX(), invader.getY(), Invader.INVADER_MAX_WIDTH, Invader.INVADER_MAX_HEIGHT);
+                        animation = thirdInvader;
                         break;
-                    case 4:
-                        batch.draw(thirdInvader.getKeyFrame(invader.getStateTime(), true), invader.getX(), invader.getY(), Invader.INVADER_MAX_WIDTH, Invader.INVADER_MAX_HEIGHT);
+                    default:
+                        animation = firstInvader;
                         break;
                 }
+
+                batch.draw(animation.getKeyFrame(invaderFormation.getStateTime(), true), invaderFormation.getX(slot), invaderFormation.getY(slot),
+                        InvaderFormation.INVADER_MAX_WIDTH, InvaderFormation.INVADER_MAX_HEIGHT);
             }
         }
     }
 
-    private void drawLasers()
+    private void drawLasers(float alpha)
     {
-        for(Laser laser : lasers)
+        int size = lasers.size();
+
+        for(int i = 0; i < size; i++)
         {
+            Laser laser = lasers.get(i);
+            float x = laser.getInterpolatedX(alpha);
+            float y = laser.getInterpolatedY(alpha);
+
             if(laser.isLaser1())
             {
-                batch.draw(laserOne.getKeyFrame(laser.getStateTime(), true), laser.getX(), laser.getY(), laser.getWidth(), laser.getHeight());
+                batch.draw(laserOne.getKeyFrame(laser.getStateTime(), true), x, y, laser.getWidth(), laser.getHeight());
             }
             else if(laser.isLaser2())
             {
-                batch.draw(laserTwo.getKeyFrame(laser.getStateTime(), true), laser.getX(), laser.getY(), laser.getWidth(), laser.getHeight());
+                batch.draw(laserTwo.getKeyFrame(laser.getStateTime(), true), x, y, laser.getWidth(), laser.getHeight());
             }
             else if(laser.isLaser3())
             {
-                batch.draw(laserThree.getKeyFrame(laser.getStateTime(), true), laser.getX(), laser.getY(), laser.getWidth(), laser.getHeight());
+                batch.draw(laserThree.getKeyFrame(laser.getStateTime(), true), x, y, laser.getWidth(), laser.getHeight());
             }
             else if(laser.isLaser4())
             {
-                batch.draw(playerLaser, laser.getX(), laser.getY(), laser.getWidth(), laser.getHeight());
+                batch.draw(playerLaser, x, y, laser.getWidth(), laser.getHeight());
             }
         }
     }
 
-    private void loadInvaders()
-    {
-        if(invaderLoaderCount < invaders.size())
-        {
-            invaders.get(invaderLoaderCount).setVisible(true);
-            invaderLoaderCount++;
-        }
-        else
-        {
-            invaderLoaderCount = 0;
-            world.ready();
-        }
-    }
-
-    private void drawCommandAlienShip()
+    private void drawCommandAlienShip(float alpha)
     {
         if(commandAlienShip.isFlying())
         {
-            batch.draw(commandAlienShipRegion, commandAlienShip.getX(), commandAlienShip.getY(), Asset.COMMAND_ALIEN_SHIP[2], Asset.COMMAND_ALIEN_SHIP[3] * 2);
+            batch.draw(commandAlienShipRegion, commandAlienShip.getInterpolatedX(alpha), commandAlienShip.getY(), Sprite.COMMAND_ALIEN_SHIP[2], Sprite.COMMAND_ALIEN_SHIP[3] * 2);
         }
     }
 
@@ -357,8 +466,11 @@ public class WorldRenderer
 
     private void drawExplosions()
     {
-        for(Explosion explosion : explosions)
+        int size = explosions.size();
+
+        for(int i = 0; i < size; i++)
         {
+            Explosion explosion = explosions.get(i);
             if(explosion.isInvader())
             {
                 batch.draw(invaderExplosion, explosion.getX(), explosion.getY(), explosion.getWidth(), explosion.getHeight());
@@ -377,31 +489,4 @@ public class WorldRenderer
             }
         }
     }
-
-    public int[] buildNumber(int number, int digits)
-    {
-        String value = String.valueOf(number);
-        int length = value.length();
-
-        for(int i = 0; i < digits - length; i++)
-        {
-            value = "0" + value;
-        }
-
-        int[] numbers = new int[value.length()];
-        int i = 0;
-
-        for(char c : value.toCharArray())
-        {
-            numbers[i] = Integer.parseInt(String.valueOf(c));
-            i++;
-        }
-
-        return numbers;
-    }
-
-    public int[] buildNumber(int number)
-    {
-        return buildNumber(number, 1);
-    }
 }
@@ -24,6 +24,7 @@ import com.gokhankanber.spaceinvaders.SpaceInvaders;
 import com.gokhankanber.spaceinvaders.controller.BaseController;
 import com.gokhankanber.spaceinvaders.controller.main.MainInputController.InputListener;
 import com.gokhankanber.spaceinvaders.provider.Config;
+import com.gokhankanber.spaceinvaders.provider.Font;
 import com.gokhankanber.spaceinvaders.view.GameScreen;
 
 public class MainMenuController extends BaseController
@@ -39,7 +40,7 @@ public class MainMenuController extends BaseController
     private final float mainMenuItemWidth = 320;
     private final float mainMenuItemX = (Config.WIDTH - mainMenuItemWidth) / 2;
     private final int menuItemFontSize = 24;
-    private Texture[] menuItemTextures;
+    private Font font;
     private float mainMenuHeight;
     private float[] mainMenuItemsFontX;
     private float[] mainMenuItemsFontY;
@@ -63,6 +64,7 @@ public class MainMenuController extends BaseController
         Gdx.input.setCatchBackKey(false);
 
         logoTexture = asset.getLogoTexture();
+        font = asset.getFont();
         initMainMenu();
     }
 
@@ -79,11 +81,9 @@ public class MainMenuController extends BaseController
         mainMenuHeight = Config.getHeight() - blockSize - logoTextureHeight;
 
         int i = 0;
-        menuItemTextures = new Texture[menuItemsLength];
 
         for(String item : mainMenuItems)
         {
-            menuItemTextures[i] = asset.getTexture(item);
             mainMenuItemsFontX[i] = (Config.WIDTH - item.length() * menuItemFontSize) / 2;
             mainMenuItemsBoundY[i] = (mainMenuHeight + (menuItemsLength * blockSize)) / 2 - (i + 1) * blockSize;
             mainMenuItemsFontY[i] = mainMenuItemsBoundY[i] + (blockSize - menuItemFontSize) / 2;
@@ -99,7 +99,7 @@ public class MainMenuController extends BaseController
     }
 
     @Override
-    public void draw(float delta)
+    public void draw(float alpha)
     {
         clear();
 
@@ -110,7 +110,7 @@ public class MainMenuController extends BaseController
 
         for(int i = 0; i < menuItemsLength; i++)
         {
-            batch.draw(menuItemTextures[i], mainMenuItemsFontX[i], mainMenuItemsFontY[i], mainMenuItems[i].length() * menuItemFontSize, menuItemFontSize);
+            font.draw(batch, mainMenuItems[i], mainMenuItemsFontX[i], mainMenuItemsFontY[i], menuItemFontSize);
         }
 
         batch.end();
@@ -121,12 +121,7 @@ public class MainMenuController extends BaseController
     {
         super.release();
 
-        logoTexture.dispose();
-
-        for(Texture texture : menuItemTextures)
-        {
-            texture.dispose();
-        }
+        asset.getRegistry().dispose(logoTexture);
     }
 
     private InputListener inputListener = new InputListener()
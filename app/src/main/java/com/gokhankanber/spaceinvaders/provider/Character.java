@@ -16,9 +16,13 @@
 
 package com.gokhankanber.spaceinvaders.provider;
 
-import java.util.HashMap;
-import java.util.Map;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
 
+/**
+ * Glyphs of 8 x 8 pixels (a byte per row) indexed in the order they are put.
+ */
 public class Character
 {
     /* Characters */
@@ -80,12 +84,16 @@ public class Character
     private byte[] charPercent = {0, 98, -108, 104, 22, 41, 70, 0};
     private byte[] charAmpersand = {0, 32, 80, 80, 32, 84, 72, 52};
     private byte[] charHash = {0, 0, 40, 124, 40, 124, 40, 0};
-    private Map<Short, byte[]> cMap;
+    private final char lastCharacter = 350;
+    private List<byte[]> glyphs;
+    private int[] glyphIndexes;
     private static Character instance;
 
     private Character()
     {
-        cMap = new HashMap<>();
+        glyphs = new ArrayList<>();
+        glyphIndexes = new int[lastCharacter + 1];
+        Arrays.fill(glyphIndexes, -1);
     }
 
     public static Character get()
@@ -163,19 +171,35 @@ public class Character
 
     private void put(char character, byte[] bytes)
     {
-        cMap.put((short) character, bytes);
+        glyphIndexes[character] = glyphs.size();
+        glyphs.add(bytes);
+    }
+
+    /**
+     * Returns glyph index of character without boxing.
+     * @param character to find.
+     * @return index, or -1 if there is no glyph (space).
+     */
+    public int getGlyphIndex(char character)
+    {
+        return character < glyphIndexes.length ? glyphIndexes[character] : -1;
+    }
+
+    public int getGlyphCount()
+    {
+        return glyphs.size();
     }
 
-    public byte[] getBytes(char character)
+    public byte[] getGlyph(int index)
     {
-        return cMap.get((short) character);
+        return glyphs.get(index);
     }
 
     public void clear()
     {
-        if(cMap != null)
+        if(glyphs != null)
         {
-            cMap.clear();
+            glyphs.clear();
         }
 
         instance = null;
@@ -0,0 +1,112 @@
+/*
+ * Copyright 2018 Gökhan Kanber
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.gokhankanber.spaceinvaders.provider;
+
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+
+/**
+ * Draws text with glyph regions of sprite sheet (a quad per glyph in sprite batch).
+ * Glyphs are white, so batch color sets text color.
+ */
+public class Font
+{
+    private static final int GLYPH_SIZE = 8;
+    private static final int GLYPHS_PER_ROW = Sprite.GLYPHS[2] / GLYPH_SIZE;
+    private Character characters;
+    private TextureRegion[] glyphs;
+    private final char[] number = new char[11];
+
+    public Font(Texture sprites, Character characters)
+    {
+        this.characters = characters;
+
+        int glyphCount = characters.getGlyphCount();
+        glyphs = new TextureRegion[glyphCount];
+
+        for(int i = 0; i < glyphCount; i++)
+        {
+            glyphs[i] = new TextureRegion(sprites, getGlyphX(i), getGlyphY(i), GLYPH_SIZE, GLYPH_SIZE);
+        }
+    }
+
+    public static int getGlyphX(int index)
+    {
+        return Sprite.GLYPHS[0] + (index % GLYPHS_PER_ROW) * GLYPH_SIZE;
+    }
+
+    public static int getGlyphY(int index)
+    {
+        return Sprite.GLYPHS[1] + (index / GLYPHS_PER_ROW) * GLYPH_SIZE;
+    }
+
+    /**
+     * Draws text between begin and end calls of batch.
+     * @param batch to draw glyphs.
+     * @param text to draw (characters without glyph are drawn as space).
+     * @param x coordinate of text.
+     * @param y coordinate of text.
+     * @param size of a character.
+     */
+    public void draw(SpriteBatch batch, CharSequence text, float x, float y, float size)
+    {
+        int length = text.length();
+
+        for(int i = 0; i < length; i++)
+        {
+            int index = characters.getGlyphIndex(text.charAt(i));
+
+            if(index >= 0)
+            {
+                batch.draw(glyphs[index], x + i * size, y, size, size);
+            }
+        }
+    }
+
+    /**
+     * Draws a number without creating a string (for dynamic text like FPS).
+     * @param batch to draw glyphs.
+     * @param value to draw.
+     * @param x coordinate of number.
+     * @param y coordinate of number.
+     * @param size of a character.
+     */
+    public void draw(SpriteBatch batch, int value, float x, float y, float size)
+    {
+        int start = number.length;
+        long rest = Math.abs((long) value);
+
+        do
+        {
+            number[--start] = (char) ('0' + rest % 10);
+            rest /= 10;
+        }
+        while(rest > 0);
+
+        if(value < 0)
+        {
+            number[--start] = '-';
+        }
+
+        for(int i = start; i < number.length; i++)
+        {
+            int index = characters.getGlyphIndex(number[i]);
+            batch.draw(glyphs[index], x + (i - start) * size, y, size, size);
+        }
+    }
+}
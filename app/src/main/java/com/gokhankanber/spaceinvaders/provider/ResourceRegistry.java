@@ -0,0 +1,224 @@
+/*
+ * Copyright 2018 Gökhan Kanber
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.gokhankanber.spaceinvaders.provider;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.Pixmap;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.g2d.SpriteCache;
+import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
+import com.badlogic.gdx.utils.Disposable;
+import com.badlogic.gdx.utils.IntMap;
+import com.badlogic.gdx.utils.ObjectIntMap;
+
+/**
+ * Creates and owns GPU resources: textures, sprite caches, shape renderers, and sprite batches.
+ * Keeps live count of each type and estimated bytes of texture and vertex / index buffers, so leaks show up in
+ * profiler overlay and soak reports. Resources are released with dispose of registry.
+ * One pixel textures of a color are shared, and released when registry is disposed.
+ */
+public class ResourceRegistry
+{
+    public static final int TEXTURE = 0;
+    public static final int SPRITE_CACHE = 1;
+    public static final int SHAPE_RENDERER = 2;
+    public static final int SPRITE_BATCH = 3;
+    public static final int TYPE_COUNT = 4;
+    private static final String[] NAMES = {"TEXTURES", "CACHES", "SHAPES", "BATCHES"};
+
+    // Vertex and index buffer sizes of libGDX defaults.
+    private static final int SPRITE_VERTEX_SIZE = 5 * 4;
+    private static final int SHAPE_VERTEX_SIZE = 4 * 4;
+    private static final int SHAPE_VERTEX_COUNT = 5000;
+    private static final int BATCH_SIZE = 1000;
+
+    private final ObjectIntMap<Disposable> types = new ObjectIntMap<Disposable>();
+    private final ObjectIntMap<Disposable> sizes = new ObjectIntMap<Disposable>();
+    private final IntMap<Texture> colorTextures = new IntMap<Texture>();
+    private final int[] counts = new int[TYPE_COUNT];
+    private long bytes;
+
+    /**
+     * Returns shared one pixel texture of color. It must not be disposed by caller.
+     * @param color in RGBA8888.
+     * @return texture.
+     */
+    public Texture getColorTexture(int color)
+    {
+        Texture texture = colorTextures.get(color);
+
+        if(texture == null)
+        {
+            Pixmap pixel = new Pixmap(1, 1, Pixmap.Format.RGBA8888);
+            pixel.setColor(color);
+            pixel.fill();
+            texture = createTexture(pixel);
+            pixel.dispose();
+            colorTextures.put(color, texture);
+        }
+
+        return texture;
+    }
+
+    /**
+     * Creates texture from pixmap. Caller disposes pixmap.
+     */
+    public Texture createTexture(Pixmap pixmap)
+    {
+        Texture texture = new Texture(pixmap);
+        add(texture, TEXTURE, pixmap.getWidth() * pixmap.getHeight() * getPixelSize(pixmap.getFormat()));
+
+        return texture;
+    }
+
+    public Texture createTexture(int width, int height, Pixmap.Format format)
+    {
+        Texture texture = new Texture(width, height, format);
+        add(texture, TEXTURE, width * height * getPixelSize(format));
+
+        return texture;
+    }
+
+    public SpriteCache createSpriteCache(int size, boolean useIndices)
+    {
+        SpriteCache cache = new SpriteCache(size, useIndices);
+        add(cache, SPRITE_CACHE, useIndices ? size * (4 * SPRITE_VERTEX_SIZE + 6 * 2) : size * 6 * SPRITE_VERTEX_SIZE);
+
+        return cache;
+    }
+
+    public ShapeRenderer createShapeRenderer()
+    {
+        ShapeRenderer shapeRenderer = new ShapeRenderer();
+        add(shapeRenderer, SHAPE_RENDERER, SHAPE_VERTEX_COUNT * SHAPE_VERTEX_SIZE);
+
+        return shapeRenderer;
+    }
+
+    public SpriteBatch createSpriteBatch()
+    {
+        SpriteBatch batch = new SpriteBatch();
+        add(batch, SPRITE_BATCH, BATCH_SIZE * (4 * SPRITE_VERTEX_SIZE + 6 * 2));
+
+        return batch;
+    }
+
+    private void add(Disposable resource, int type, int size)
+    {
+        types.put(resource, type);
+        sizes.put(resource, size);
+        counts[type]++;
+        bytes += size;
+    }
+
+    /**
+     * Disposes a resource created by registry.
+     * @param resource to dispose.
+     */
+    public void dispose(Disposable resource)
+    {
+        int type = types.remove(resource, -1);
+
+        if(type < 0)
+        {
+            throw new IllegalArgumentException("Resource is not created by registry or is already disposed.");
+        }
+
+        counts[type]--;
+        bytes -= sizes.remove(resource, 0);
+        resource.dispose();
+    }
+
+    /**
+     * Disposes all resources. Resources that are not shared are logged as leaks.
+     */
+    public void dispose()
+    {
+        int leaks = getCount() - colorTextures.size;
+
+        if(leaks > 0)
+        {
+            Gdx.app.error("ResourceRegistry", leaks + " resources are not disposed (" + getCount(TEXTURE) + " textures with "
+                    + colorTextures.size + " shared, " + getCount(SPRITE_CACHE) + " sprite caches, "
+                    + getCount(SHAPE_RENDERER) + " shape renderers, " + getCount(SPRITE_BATCH) + " sprite batches).");
+        }
+
+        for(Disposable resource : types.keys())
+        {
+            resource.dispose();
+        }
+
+        types.clear();
+        sizes.clear();
+        colorTextures.clear();
+
+        for(int i = 0; i < TYPE_COUNT; i++)
+        {
+            counts[i] = 0;
+        }
+
+        bytes = 0;
+    }
+
+    /**
+     * Returns live resources of type.
+     * @param type of resource.
+     * @return count.
+     */
+    public int getCount(int type)
+    {
+        return counts[type];
+    }
+
+    public int getCount()
+    {
+        return types.size;
+    }
+
+    /**
+     * Returns estimated bytes of textures and vertex / index buffers of live resources.
+     * @return bytes.
+     */
+    public long getBytes()
+    {
+        return bytes;
+    }
+
+    public static String getName(int type)
+    {
+        return NAMES[type];
+    }
+
+    private static int getPixelSize(Pixmap.Format format)
+    {
+        switch(format)
+        {
+            case Alpha:
+            case Intensity:
+                return 1;
+            case LuminanceAlpha:
+            case RGB565:
+            case RGBA4444:
+                return 2;
+            case RGB888:
+                return 3;
+            default:
+                return 4;
+        }
+    }
+}
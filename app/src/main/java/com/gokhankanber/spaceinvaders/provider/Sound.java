@@ -20,45 +20,23 @@ import android.media.AudioFormat;
 import android.media.AudioManager;
 import android.media.AudioTrack;
 
+/**
+ * Sound tracks of synthesized waves, mixed into one streaming AudioTrack.
+ * Audio thread synthesizes tracks, so the first frame does not wait for synthesis,
+ * then writes mixer output until sound is released. Audio thread stops output and waits while app is paused.
+ * Sounds played before tracks are ready are skipped, but looping sounds are queued and started when mixer is ready.
+ */
 public class Sound
 {
-    private final int sampleRate = 48000;
-
-    public enum Track
-    {
-        BUTTON(0, 600, 0.1f),
-        INVADER_MOVE_ONE(1, 150, 0.1f),
-        INVADER_MOVE_TWO(2, 140, 0.1f),
-        LASER(3, 1000, 0.1f),
-        EXPLOSION(4, 500, 0.1f),
-        COMMAND_ALIEN_SHIP(5, 5, 3, 5000),
-        LASERCANNON(6, 8, 1, 900);
-
-        private final int index;
-        private final float frequency;
-        private final float duration;
-        private final int maxValue;
-
-        Track(int index, float frequency, float duration)
-        {
-            this(index, frequency, duration, Byte.MAX_VALUE);
-        }
-
-        Track(int index, float frequency, float duration, int maxValue)
-        {
-            this.index = index;
-            this.frequency = frequency;
-            this.duration = duration;
-            this.maxValue = maxValue;
-        }
-
-        public int getIndex()
-        {
-            return index;
-        }
-    }
-
-    private AudioTrack[] audioTracks;
+    private static final int VOICE_COUNT = 8;
+    private static final int COMMAND_CAPACITY = 64;
+    private static final int BUFFER_SIZE = Synthesizer.SAMPLE_RATE / 100; // 10 ms
+    private volatile Mixer mixer;
+    private final boolean[] pendingLoops = new boolean[Track.values().length];
+    private volatile boolean running;
+    private boolean paused; // Guarded by pauseLock.
+    private final Object pauseLock = new Object();
+    private Thread thread;
     private static Sound instance;
 
     private Sound()
@@ -77,35 +55,143 @@ public class Sound
     }
 
     public void init()
+    {
+        running = true;
+        thread = new Thread(new Runnable()
+        {
+            @Override
+            public void run()
+            {
+                load();
+                stream();
+            }
+        }, "Sound");
+
+        thread.setPriority(Thread.MAX_PRIORITY);
+        thread.start();
+    }
+
+    private void load()
     {
         Track[] trackList = Track.values();
-        audioTracks = new AudioTrack[trackList.length];
+        byte[][] tracks = new byte[trackList.length][];
 
         for(Track track : trackList)
         {
-            audioTracks[track.index] = create(track.frequency, track.duration, track.maxValue);
+            tracks[track.getIndex()] = Synthesizer.createSine(track);
+        }
+
+        Mixer mixer = new Mixer(tracks, VOICE_COUNT, COMMAND_CAPACITY);
+
+        // Game thread waits for lock while queued loops are added, so mixer keeps a single command producer.
+        synchronized(pendingLoops)
+        {
+            for(int i = 0; i < pendingLoops.length; i++)
+            {
+                if(pendingLoops[i])
+                {
+                    mixer.play(i, true);
+                    pendingLoops[i] = false;
+                }
+            }
+
+            this.mixer = mixer;
         }
     }
 
-    private AudioTrack create(float frequency, float duration, int maxValue)
+    private void stream()
     {
-        byte[] bytes = new byte[(int) (sampleRate * duration)];
+        int minBufferSize = AudioTrack.getMinBufferSize(Synthesizer.SAMPLE_RATE,
+                AudioFormat.CHANNEL_OUT_MONO,
+                AudioFormat.ENCODING_PCM_8BIT);
+
+        AudioTrack output = new AudioTrack(AudioManager.STREAM_MUSIC,
+                Synthesizer.SAMPLE_RATE,
+                AudioFormat.CHANNEL_OUT_MONO,
+                AudioFormat.ENCODING_PCM_8BIT, Math.max(minBufferSize, BUFFER_SIZE * 2),
+                AudioTrack.MODE_STREAM);
 
-        for(int i = 0; i < bytes.length; i++)
+        output.setStereoVolume(1f, 1f); // Mixer headroom halves samples.
+        output.play();
+
+        byte[] buffer = new byte[BUFFER_SIZE];
+        Mixer mixer = this.mixer;
+
+        while(running)
         {
-            bytes[i] = (byte) (Math.sin(2 * Math.PI * i * frequency / sampleRate) * maxValue);
+            if(isPaused())
+            {
+                output.pause();
+                output.flush();
+
+                if(!waitForResume())
+                {
+                    break;
+                }
+
+                output.play();
+            }
+
+            mixer.mix(buffer, 0, buffer.length);
+            output.write(buffer, 0, buffer.length); // Blocks until buffer has space.
         }
 
-        AudioTrack track = new AudioTrack(AudioManager.STREAM_MUSIC,
-                sampleRate,
-                AudioFormat.CHANNEL_OUT_DEFAULT,
-                AudioFormat.ENCODING_PCM_8BIT, bytes.length,
-                AudioTrack.MODE_STATIC);
+        output.stop();
+        output.release();
+    }
 
-        track.write(bytes, 0, bytes.length);
-        track.setStereoVolume(0.5f, 0.5f);
+    private boolean isPaused()
+    {
+        synchronized(pauseLock)
+        {
+            return paused;
+        }
+    }
+
+    /**
+     * Blocks audio thread until sound is resumed or released.
+     * @return false if sound is released or thread is interrupted.
+     */
+    private boolean waitForResume()
+    {
+        synchronized(pauseLock)
+        {
+            try
+            {
+                while(paused && running)
+                {
+                    pauseLock.wait();
+                }
+            }
+            catch(InterruptedException e)
+            {
+                Thread.currentThread().interrupt();
+
+                return false;
+            }
+        }
+
+        return running;
+    }
 
-        return track;
+    /**
+     * Stops output while app is paused, so audio device can sleep.
+     */
+    public void pause()
+    {
+        synchronized(pauseLock)
+        {
+            paused = true;
+        }
+    }
+
+    public void resume()
+    {
+        synchronized(pauseLock)
+        {
+            paused = false;
+            pauseLock.notifyAll();
+        }
     }
 
     public void play(int index)
@@ -115,32 +201,62 @@ public class Sound
 
     public void play(int index, boolean loop)
     {
-        AudioTrack audioTrack = audioTracks[index];
-        stop(index);
+        Mixer mixer = getMixer(index, loop, false);
 
-        if(loop)
+        if(mixer != null)
         {
-            audioTrack.setLoopPoints(0, (int) (sampleRate * Track.values()[index].duration), -1);
+            mixer.play(index, loop);
         }
-
-        audioTrack.play();
     }
 
     public void stop(int index)
     {
-        AudioTrack audioTrack = audioTracks[index];
+        Mixer mixer = getMixer(index, false, true);
 
-        if(audioTrack.getPlayState() == AudioTrack.PLAYSTATE_PLAYING)
+        if(mixer != null)
         {
-            audioTrack.stop();
+            mixer.stop(index);
         }
     }
 
+    /**
+     * Returns mixer, or null after queuing (loop) or removing (stop) looping sound of track if mixer is not ready.
+     */
+    private Mixer getMixer(int index, boolean loop, boolean stop)
+    {
+        Mixer mixer = this.mixer;
+
+        if(mixer == null)
+        {
+            synchronized(pendingLoops)
+            {
+                mixer = this.mixer;
+
+                if(mixer == null && (loop || stop))
+                {
+                    pendingLoops[index] = loop;
+                }
+            }
+        }
+
+        return mixer;
+    }
+
     public void releaseAll()
     {
-        for(AudioTrack audioTrack : audioTracks)
+        synchronized(pauseLock)
+        {
+            running = false;
+            pauseLock.notifyAll();
+        }
+
+        try
+        {
+            thread.join();
+        }
+        catch(InterruptedException e)
         {
-            audioTrack.release();
+            Thread.currentThread().interrupt();
         }
 
         instance = null;
@@ -19,28 +19,44 @@ package com.gokhankanber.spaceinvaders.view;
 import com.badlogic.gdx.Screen;
 import com.gokhankanber.spaceinvaders.SpaceInvaders;
 import com.gokhankanber.spaceinvaders.controller.BaseController;
+import com.gokhankanber.spaceinvaders.provider.Config;
+import com.gokhankanber.spaceinvaders.simulation.FixedTimestep;
 
 public abstract class BaseScreen implements Screen
 {
     protected SpaceInvaders game;
     protected BaseController controller;
+    protected FixedTimestep timestep;
 
     public BaseScreen(SpaceInvaders game)
     {
         this.game = game;
+
+        timestep = new FixedTimestep(Config.STEPS_PER_SECOND, Config.MAX_STEPS_PER_FRAME);
     }
 
     @Override
     public void show()
     {
+        timestep.reset();
         controller.init();
     }
 
+    /**
+     * Updates controller with fixed time steps, and draws with interpolation alpha of remaining frame time.
+     * @param delta is frame time.
+     */
     @Override
     public void render(float delta)
     {
-        controller.update(delta);
-        controller.draw(delta);
+        int steps = timestep.advance(delta);
+
+        for(int i = 0; i < steps; i++)
+        {
+            controller.update(timestep.getStep());
+        }
+
+        controller.draw(timestep.getAlpha());
     }
 
     @Override
@@ -56,6 +72,7 @@ public abstract class BaseScreen implements Screen
     @Override
     public void resume()
     {
+        timestep.reset();
     }
 
     @Override
@@ -0,0 +1,330 @@
+/*
+ * Copyright 2018 Gökhan Kanber
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.gokhankanber.spaceinvaders.simulation;
+
+import com.gokhankanber.spaceinvaders.controller.game.GameMenu;
+import com.gokhankanber.spaceinvaders.controller.game.GameSession;
+import com.gokhankanber.spaceinvaders.model.CommandAlienShip;
+import com.gokhankanber.spaceinvaders.model.InvaderFormation;
+import com.gokhankanber.spaceinvaders.model.Laser;
+import com.gokhankanber.spaceinvaders.model.LaserCannon;
+import com.gokhankanber.spaceinvaders.model.World;
+import com.gokhankanber.spaceinvaders.provider.Config;
+import com.gokhankanber.spaceinvaders.provider.SilentAudio;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Steps independent worlds in lockstep without display, for training and testing gameplay bots.
+ * Actions are read from shared arrays, and observations, rewards, deaths, and done flags are written to flat arrays
+ * indexed by world (observations have OBSERVATION_SIZE values per world). Worlds are stepped in parallel by a fork-join pool.
+ * A world is restarted with a new game on the step after its game ends.
+ */
+public class WorldBatch
+{
+    // Observation values of a world.
+    public static final int LASER_CANNON_X = 0;
+    public static final int LASER_CANNON_ALIVE = 1;
+    public static final int INVADER_COUNT = 2;
+    public static final int INVADER_X = 3;
+    public static final int INVADER_Y = 4;
+    public static final int LASER_X = 5;
+    public static final int LASER_Y = 6;
+    public static final int COMMAND_ALIEN_SHIP_X = 7;
+    public static final int OBSERVATION_SIZE = 8;
+
+    private final float step = 1.0f / Config.STEPS_PER_SECOND;
+    private final int size;
+    private final World[] worlds;
+    private final GameSession[] sessions;
+    private final int[] points;
+    private final int[] lives;
+    private final float[] moves;
+    private final boolean[] fires;
+    private final float[] observations;
+    private final float[] rewards;
+    private final int[] deaths;
+    private final boolean[] done;
+    private final ForkJoinPool pool;
+    private final int threshold;
+
+    /**
+     * @param size number of worlds.
+     * @param seed for seeds of worlds (same seed and actions step the same games).
+     * @param parallelism number of threads.
+     */
+    public WorldBatch(int size, long seed, int parallelism)
+    {
+        if(size <= 0 || parallelism <= 0)
+        {
+            throw new IllegalArgumentException("Size and parallelism must be positive.");
+        }
+
+        this.size = size;
+        worlds = new World[size];
+        sessions = new GameSession[size];
+        points = new int[size];
+        lives = new int[size];
+        moves = new float[size];
+        fires = new boolean[size];
+        observations = new float[size * OBSERVATION_SIZE];
+        rewards = new float[size];
+        deaths = new int[size];
+        done = new boolean[size];
+        pool = new ForkJoinPool(parallelism);
+        // Split worlds to a few tasks per thread, so threads finishing early steal remaining worlds.
+        threshold = Math.max(1, size / (parallelism * 4));
+
+        Random random = new Random(seed);
+
+        for(int i = 0; i < size; i++)
+        {
+            worlds[i] = new World(new SilentAudio(), 5, 11, random.nextLong(), Config.HEADLESS_HEIGHT);
+            sessions[i] = new GameSession(worlds[i], sessionListener);
+            reset(i);
+        }
+    }
+
+    public int size()
+    {
+        return size;
+    }
+
+    public World getWorld(int index)
+    {
+        return worlds[index];
+    }
+
+    /**
+     * Returns move actions, x change of laser cannon in a step for each world.
+     * @return array to set before each step.
+     */
+    public float[] getMoves()
+    {
+        return moves;
+    }
+
+    /**
+     * Returns fire actions for each world.
+     * @return array to set before each step.
+     */
+    public boolean[] getFires()
+    {
+        return fires;
+    }
+
+    public float[] getObservations()
+    {
+        return observations;
+    }
+
+    /**
+     * Returns points scored in the last step for each world.
+     * @return rewards.
+     */
+    public float[] getRewards()
+    {
+        return rewards;
+    }
+
+    /**
+     * Returns lives lost in the last step for each world.
+     * @return deaths.
+     */
+    public int[] getDeaths()
+    {
+        return deaths;
+    }
+
+    /**
+     * Returns whether game of each world ended in the last step.
+     * @return done flags.
+     */
+    public boolean[] getDone()
+    {
+        return done;
+    }
+
+    /**
+     * Applies actions and runs a simulation step of all worlds.
+     */
+    public void step()
+    {
+        pool.invoke(new StepTask(0, size));
+    }
+
+    public void dispose()
+    {
+        pool.shutdown();
+    }
+
+    private void step(int index)
+    {
+        World world = worlds[index];
+        GameSession session = sessions[index];
+
+        if(done[index])
+        {
+            world.newLevel(true);
+            reset(index);
+        }
+
+        if(moves[index] != 0)
+        {
+            session.move(moves[index]);
+        }
+
+        if(fires[index])
+        {
+            // Starts game in ready state, and fires laser while game is resumed.
+            session.check(0, 0);
+        }
+
+        session.update(step);
+
+        LaserCannon laserCannon = world.getLaserCannon();
+        rewards[index] = laserCannon.points - points[index];
+        deaths[index] = Math.max(lives[index] - laserCannon.lives, 0);
+        done[index] = world.isEnd();
+        points[index] = laserCannon.points;
+        lives[index] = laserCannon.lives;
+
+        observe(index);
+    }
+
+    private void reset(int index)
+    {
+        LaserCannon laserCannon = worlds[index].getLaserCannon();
+        points[index] = laserCannon.points;
+        lives[index] = laserCannon.lives;
+        rewards[index] = 0;
+        deaths[index] = 0;
+        done[index] = false;
+
+        observe(index);
+    }
+
+    /**
+     * Writes laser cannon, the lowest invader nearest to laser cannon, the lowest invader laser, and command alien ship.
+     * Missing models are written as -1.
+     */
+    private void observe(int index)
+    {
+        World world = worlds[index];
+        LaserCannon laserCannon = world.getLaserCannon();
+        InvaderFormation invaderFormation = world.getInvaderFormation();
+        CommandAlienShip commandAlienShip = world.getCommandAlienShip();
+        List<Laser> lasers = world.getLasers();
+        int offset = index * OBSERVATION_SIZE;
+        float x = laserCannon.getCenter();
+
+        float invaderX = -1;
+        float invaderY = -1;
+        float invaderDistance = Float.MAX_VALUE;
+
+        for(int slot = invaderFormation.nextAlive(0); slot >= 0; slot = invaderFormation.nextAlive(slot + 1))
+        {
+            float slotX = invaderFormation.getX(slot) + InvaderFormation.INVADER_MAX_WIDTH / 2;
+            float slotY = invaderFormation.getY(slot);
+            float distance = Math.abs(slotX - x);
+
+            if(invaderY < 0 || slotY < invaderY || (slotY == invaderY && distance < invaderDistance))
+            {
+                invaderX = slotX;
+                invaderY = slotY;
+                invaderDistance = distance;
+            }
+        }
+
+        float laserX = -1;
+        float laserY = -1;
+        int laserCount = lasers.size();
+
+        for(int i = 0; i < laserCount; i++)
+        {
+            Laser laser = lasers.get(i);
+
+            if(!laser.isSourceLaserCannon() && laser.isFired() && (laserY < 0 || laser.getY() < laserY))
+            {
+                laserX = laser.getCenter();
+                laserY = laser.getY();
+            }
+        }
+
+        observations[offset + LASER_CANNON_X] = x;
+        observations[offset + LASER_CANNON_ALIVE] = laserCannon.isAlive() ? 1 : 0;
+        observations[offset + INVADER_COUNT] = invaderFormation.size();
+        observations[offset + INVADER_X] = invaderX;
+        observations[offset + INVADER_Y] = invaderY;
+        observations[offset + LASER_X] = laserX;
+        observations[offset + LASER_Y] = laserY;
+        observations[offset + COMMAND_ALIEN_SHIP_X] = commandAlienShip.isFlying() ? commandAlienShip.getCenter() : -1;
+    }
+
+    /**
+     * Steps a range of worlds, splitting the range in half until it is smaller than threshold.
+     */
+    private class StepTask extends RecursiveAction
+    {
+        private static final long serialVersionUID = 1L;
+        private final int start;
+        private final int end;
+
+        StepTask(int start, int end)
+        {
+            this.start = start;
+            this.end = end;
+        }
+
+        @Override
+        protected void compute()
+        {
+            if(end - start <= threshold)
+            {
+                for(int i = start; i < end; i++)
+                {
+                    step(i);
+                }
+            }
+            else
+            {
+                int middle = (start + end) >>> 1;
+                invokeAll(new StepTask(start, middle), new StepTask(middle, end));
+            }
+        }
+    }
+
+    private GameSession.SessionListener sessionListener = new GameSession.SessionListener()
+    {
+        @Override
+        public void buttonClicked()
+        {
+        }
+
+        @Override
+        public void gameMenuChanged(GameMenu.Type type)
+        {
+        }
+
+        @Override
+        public void exit()
+        {
+        }
+    };
+}
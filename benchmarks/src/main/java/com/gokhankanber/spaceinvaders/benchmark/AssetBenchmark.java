@@ -0,0 +1,87 @@
+/*
+ * Copyright 2018 Gökhan Kanber
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.gokhankanber.spaceinvaders.benchmark;
+
+import com.gokhankanber.spaceinvaders.provider.Digits;
+import com.gokhankanber.spaceinvaders.provider.Sprite;
+import com.gokhankanber.spaceinvaders.provider.Synthesizer;
+import com.gokhankanber.spaceinvaders.provider.Track;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures asset creation: scoreboard digits, sprite sheet decoding, and sound synthesis.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class AssetBenchmark
+{
+    private final int[] pixels = new int[Sprite.SHEET.length * Sprite.SHEET_WIDTH];
+    private final int[] digits = new int[4];
+
+    @State(Scope.Thread)
+    public static class Score
+    {
+        @Param({"0", "1230"})
+        public int points;
+    }
+
+    @State(Scope.Thread)
+    public static class Sound
+    {
+        @Param({"LASER", "COMMAND_ALIEN_SHIP"})
+        public Track track;
+    }
+
+    @Benchmark
+    public int[] buildNumber(Score score)
+    {
+        for(int i = 0; i < digits.length; i++)
+        {
+            digits[i] = Digits.getDigit(score.points, digits.length - 1 - i);
+        }
+
+        return digits;
+    }
+
+    @Benchmark
+    public int[] decodeSprites()
+    {
+        Sprite.decode(Sprite.SHEET, 0, pixels);
+
+        return pixels;
+    }
+
+    @Benchmark
+    public byte[] createSound(Sound sound)
+    {
+        return Synthesizer.createSine(sound.track);
+    }
+}
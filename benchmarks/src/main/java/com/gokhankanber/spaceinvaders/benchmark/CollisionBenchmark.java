@@ -0,0 +1,158 @@
+/*
+ * Copyright 2018 Gökhan Kanber
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.gokhankanber.spaceinvaders.benchmark;
+
+import com.gokhankanber.spaceinvaders.model.IWorld;
+import com.gokhankanber.spaceinvaders.model.InvaderFormation;
+import com.gokhankanber.spaceinvaders.model.Laser;
+import com.gokhankanber.spaceinvaders.model.Shield;
+import com.gokhankanber.spaceinvaders.model.World;
+import java.nio.ByteBuffer;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures collision checks of lasers flying between invaders and shields, and of a player laser hitting an invader
+ * or a shield (hit includes removing invader or shield pixels, and adding explosion).
+ * Lasers are updated with zero delta, so only collisions and world borders are checked.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class CollisionBenchmark
+{
+    private Laser playerLaser;
+    private Laser invaderLaser;
+    private float x;
+    private float y;
+
+    @Setup(Level.Trial)
+    public void setUp()
+    {
+        World world = Worlds.create(5, 11);
+        IWorld iWorld = world.getLaserCannon().getListener();
+        InvaderFormation invaderFormation = world.getInvaderFormation();
+
+        x = invaderFormation.getX(invaderFormation.getBottomSlot(invaderFormation.getLeftColumn()));
+        y = iWorld.getShieldBorder() + 16;
+
+        playerLaser = new Laser(x, y, 2, 12);
+        playerLaser.setSourceLaserCannon();
+        playerLaser.setListener(iWorld);
+
+        invaderLaser = new Laser(x, y, 6, 14);
+        invaderLaser.setType(0);
+        invaderLaser.setListener(iWorld);
+    }
+
+    @Benchmark
+    public boolean playerLaser()
+    {
+        playerLaser.setPosition(x, y);
+        playerLaser.update(0);
+
+        return playerLaser.isExploding();
+    }
+
+    @Benchmark
+    public boolean invaderLaser()
+    {
+        invaderLaser.setPosition(x, y);
+        invaderLaser.update(0);
+
+        return invaderLaser.isExploding();
+    }
+
+    @Benchmark
+    public boolean hit(Hit hit)
+    {
+        hit.laser.update(0);
+
+        return hit.laser.isExploding();
+    }
+
+    /**
+     * World and player laser at a target, restored from a snapshot before each hit.
+     */
+    @State(Scope.Thread)
+    public static class Hit
+    {
+        @Param({"invader", "shield"})
+        public String target;
+
+        private World world;
+        private IWorld iWorld;
+        private ByteBuffer snapshot;
+        private Laser laser;
+        private float x;
+        private float y;
+
+        @Setup(Level.Trial)
+        public void setUp()
+        {
+            world = Worlds.create(5, 11);
+            iWorld = world.getLaserCannon().getListener();
+            snapshot = ByteBuffer.allocateDirect(world.getSnapshotSize());
+            world.save(snapshot);
+            laser = new Laser(0, 0, 2, 12);
+
+            if("invader".equals(target))
+            {
+                InvaderFormation invaderFormation = world.getInvaderFormation();
+                int slot = invaderFormation.getBottomSlot(invaderFormation.getLeftColumn());
+                x = invaderFormation.getX(slot) + 8;
+                y = invaderFormation.getY(slot);
+            }
+            else
+            {
+                // Left side of the first shield, below its arch.
+                Shield shield = world.getShields().get(0);
+                x = shield.getX() + 4;
+                y = shield.getY();
+            }
+        }
+
+        /**
+         * Restores invaders and shields, and fires laser again.
+         */
+        @Setup(Level.Invocation)
+        public void arm()
+        {
+            snapshot.rewind();
+            world.restore(snapshot);
+
+            laser.reset();
+            laser.init(x, y, 2, 12);
+            laser.setSourceLaserCannon();
+            laser.setListener(iWorld);
+        }
+    }
+}
@@ -0,0 +1,80 @@
+/*
+ * Copyright 2018 Gökhan Kanber
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.gokhankanber.spaceinvaders.benchmark;
+
+import com.gokhankanber.spaceinvaders.provider.Mixer;
+import com.gokhankanber.spaceinvaders.provider.Synthesizer;
+import com.gokhankanber.spaceinvaders.provider.Track;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures mixing of a 10 ms output buffer with a number of looping voices.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class MixerBenchmark
+{
+    @Param({"1", "8"})
+    public int voices;
+
+    private final byte[] buffer = new byte[Synthesizer.SAMPLE_RATE / 100];
+    private Mixer mixer;
+
+    @Setup
+    public void setUp()
+    {
+        byte[] samples = Synthesizer.createSine(Track.COMMAND_ALIEN_SHIP);
+        byte[][] tracks = new byte[voices][];
+
+        for(int i = 0; i < voices; i++)
+        {
+            tracks[i] = samples;
+        }
+
+        mixer = new Mixer(tracks, voices, 64);
+
+        for(int i = 0; i < voices; i++)
+        {
+            mixer.play(i, true);
+        }
+
+        mixer.mix(buffer, 0, buffer.length);
+    }
+
+    @Benchmark
+    public byte[] mix()
+    {
+        mixer.mix(buffer, 0, buffer.length);
+
+        return buffer;
+    }
+}
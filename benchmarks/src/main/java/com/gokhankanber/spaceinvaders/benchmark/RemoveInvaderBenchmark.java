@@ -0,0 +1,89 @@
+/*
+ * Copyright 2018 Gökhan Kanber
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.gokhankanber.spaceinvaders.benchmark;
+
+import com.gokhankanber.spaceinvaders.model.IWorld;
+import com.gokhankanber.spaceinvaders.model.InvaderFormation;
+import com.gokhankanber.spaceinvaders.model.World;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures removing all invaders of a formation one by one through world interface.
+ * Compare with create benchmark to get the cost of removing.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class RemoveInvaderBenchmark
+{
+    @Param({"5", "8"})
+    public int invaderRows;
+
+    @Param({"11", "16"})
+    public int invaderColumns;
+
+    private IWorld iWorld;
+    private InvaderFormation invaderFormation;
+    private float startX;
+    private float startY;
+
+    @Setup(Level.Trial)
+    public void setUp()
+    {
+        World world = Worlds.create(invaderRows, invaderColumns);
+        iWorld = world.getLaserCannon().getListener();
+        invaderFormation = world.getInvaderFormation();
+        startX = invaderFormation.getX(0);
+        startY = invaderFormation.getY(0);
+    }
+
+    @Benchmark
+    public int create()
+    {
+        invaderFormation.create(invaderRows, invaderColumns, startX, startY);
+
+        return invaderFormation.size();
+    }
+
+    @Benchmark
+    public int removeAll()
+    {
+        invaderFormation.create(invaderRows, invaderColumns, startX, startY);
+
+        for(int slot = invaderFormation.nextAlive(0); slot >= 0; slot = invaderFormation.nextAlive(slot + 1))
+        {
+            iWorld.removeInvader(slot);
+        }
+
+        return invaderFormation.size();
+    }
+}
@@ -0,0 +1,87 @@
+/*
+ * Copyright 2018 Gökhan Kanber
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.gokhankanber.spaceinvaders.benchmark;
+
+import com.gokhankanber.spaceinvaders.model.World;
+import java.nio.ByteBuffer;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures saving and restoring a world snapshot with lasers in flight.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class SnapshotBenchmark
+{
+    @Param({"5", "8"})
+    public int invaderRows;
+
+    @Param({"11", "16"})
+    public int invaderColumns;
+
+    private World world;
+    private ByteBuffer buffer;
+
+    @Setup(Level.Trial)
+    public void setUp()
+    {
+        world = Worlds.create(invaderRows, invaderColumns);
+        world.createLaser();
+
+        for(int i = 0; i < 60; i++)
+        {
+            world.update(Worlds.STEP);
+        }
+
+        buffer = ByteBuffer.allocateDirect(world.getSnapshotSize());
+        world.save(buffer);
+    }
+
+    @Benchmark
+    public int save()
+    {
+        buffer.clear();
+        world.save(buffer);
+
+        return buffer.position();
+    }
+
+    @Benchmark
+    public int restore()
+    {
+        buffer.rewind();
+        world.restore(buffer);
+
+        return buffer.position();
+    }
+}
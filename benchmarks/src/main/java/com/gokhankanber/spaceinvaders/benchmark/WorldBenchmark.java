@@ -0,0 +1,105 @@
+/*
+ * Copyright 2018 Gökhan Kanber
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.gokhankanber.spaceinvaders.benchmark;
+
+import com.gokhankanber.spaceinvaders.model.IWorld;
+import com.gokhankanber.spaceinvaders.model.InvaderFormation;
+import com.gokhankanber.spaceinvaders.model.Laser;
+import com.gokhankanber.spaceinvaders.model.World;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures a simulation step of world.
+ * Invader lasers are added before each step to keep the specified number of lasers in world,
+ * and game is restarted when it ends, so the cost of lost lives and new levels is included.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class WorldBenchmark
+{
+    private final int[] laserHeights = {14, 12, 14};
+
+    @Param({"5", "8"})
+    public int invaderRows;
+
+    @Param({"11", "16"})
+    public int invaderColumns;
+
+    @Param({"0", "8", "32"})
+    public int laserCount;
+
+    private World world;
+    private IWorld iWorld;
+    private InvaderFormation invaderFormation;
+    private List<Laser> lasers;
+    private int laserIndex;
+
+    @Setup(Level.Trial)
+    public void setUp()
+    {
+        world = Worlds.create(invaderRows, invaderColumns);
+        iWorld = world.getLaserCannon().getListener();
+        invaderFormation = world.getInvaderFormation();
+        lasers = world.getLasers();
+    }
+
+    @Benchmark
+    public boolean update()
+    {
+        addLasers();
+        world.update(Worlds.STEP);
+
+        if(world.isEnding())
+        {
+            world.newLevel(true);
+            Worlds.start(world);
+        }
+
+        return world.isResumed();
+    }
+
+    private void addLasers()
+    {
+        while(lasers.size() < laserCount && invaderFormation.getShooterCount() > 0)
+        {
+            int slot = invaderFormation.getShooterSlot(laserIndex++ % invaderFormation.getShooterCount());
+            int type = laserIndex % laserHeights.length;
+            Laser laser = world.getLaserPool().obtain();
+            laser.init(invaderFormation.getX(slot), invaderFormation.getY(slot), 6, laserHeights[type]);
+            laser.setType(type);
+            laser.setListener(iWorld);
+            lasers.add(laser);
+        }
+    }
+}
@@ -0,0 +1,50 @@
+/*
+ * Copyright 2018 Gökhan Kanber
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.gokhankanber.spaceinvaders.benchmark;
+
+import com.gokhankanber.spaceinvaders.model.World;
+import com.gokhankanber.spaceinvaders.provider.Config;
+import com.gokhankanber.spaceinvaders.provider.SilentAudio;
+
+/**
+ * Creates worlds for benchmarks.
+ */
+class Worlds
+{
+    static final float STEP = 1f / Config.STEPS_PER_SECOND;
+    static final long SEED = 1;
+
+    static World create(int invaderRows, int invaderColumns)
+    {
+        World world = new World(new SilentAudio(), invaderRows, invaderColumns, SEED);
+        start(world);
+
+        return world;
+    }
+
+    /**
+     * Updates world until all invaders are visible and game is resumed.
+     * @param world to update.
+     */
+    static void start(World world)
+    {
+        while(!world.isResumed())
+        {
+            world.update(STEP);
+        }
+    }
+}
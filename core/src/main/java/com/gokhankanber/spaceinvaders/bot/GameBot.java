@@ -0,0 +1,264 @@
+/*
+ * Copyright 2018 Gökhan Kanber
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.gokhankanber.spaceinvaders.bot;
+
+import com.badlogic.gdx.math.Rectangle;
+import com.gokhankanber.spaceinvaders.controller.game.GameInputController.InputListener;
+import com.gokhankanber.spaceinvaders.controller.game.GameMenu;
+import com.gokhankanber.spaceinvaders.controller.game.GameSession;
+import com.gokhankanber.spaceinvaders.model.InvaderFormation;
+import com.gokhankanber.spaceinvaders.model.Laser;
+import com.gokhankanber.spaceinvaders.model.LaserCannon;
+import com.gokhankanber.spaceinvaders.model.World;
+import com.gokhankanber.spaceinvaders.provider.Config;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Scripted player for soak and load tests. Dodges invader lasers falling on laser cannon,
+ * and fires at the column of the lowest invader. Starts the game, resumes it, and starts a new game when it ends.
+ * Input is sent to an input listener (game session, or input recorder to record the session), once per step.
+ * Skill (0 - 1) sets reaction time, aim error, and how early lasers are dodged.
+ */
+public class GameBot
+{
+    private final float maxMove = 6;
+    private final float fireDistance = 2;
+    private final int maxReactionTicks = 12;
+    private final float maxAimError = 12;
+    private final float edge = 32; // Laser cannon padding in world.
+    private GameSession session;
+    private InputListener inputListener;
+    private Random random;
+    private float skill;
+    private int reactionTicks;
+    private float move;
+    private int targetColumn = -1;
+    private float aimError;
+
+    /**
+     * @param session to play.
+     * @param inputListener to send input.
+     * @param skill from 0 to 1.
+     * @param seed for random reaction and aim errors.
+     */
+    public GameBot(GameSession session, InputListener inputListener, float skill, long seed)
+    {
+        this.session = session;
+        this.inputListener = inputListener;
+        random = new Random(seed);
+        setSkill(skill);
+    }
+
+    public float getSkill()
+    {
+        return skill;
+    }
+
+    public void setSkill(float skill)
+    {
+        if(skill < 0 || skill > 1)
+        {
+            throw new IllegalArgumentException("Skill must be between 0 and 1.");
+        }
+
+        this.skill = skill;
+    }
+
+    /**
+     * Sends input of the next step. Called before each simulation step.
+     */
+    public void update()
+    {
+        World world = session.getWorld();
+
+        if(world.isReady())
+        {
+            inputListener.check(0, 0);
+        }
+        else if(world.isPaused())
+        {
+            // Pause menu: Resume.
+            select(0);
+        }
+        else if(world.isEnd())
+        {
+            // Win / game over menu: New.
+            select(0);
+        }
+        else if(world.isResumed() && world.getLaserCannon().isAlive())
+        {
+            play(world);
+        }
+    }
+
+    private void select(int item)
+    {
+        GameMenu gameMenu = session.getGameMenu();
+        Rectangle bounds = gameMenu.getItemBounds(item);
+        inputListener.check(bounds.x + bounds.width / 2, bounds.y + bounds.height / 2);
+    }
+
+    private void play(World world)
+    {
+        LaserCannon laserCannon = world.getLaserCannon();
+
+        if(reactionTicks > 0)
+        {
+            reactionTicks--;
+        }
+        else
+        {
+            reactionTicks = Math.round((1 - skill) * maxReactionTicks);
+            decide(world, laserCannon);
+        }
+
+        if(move != 0)
+        {
+            inputListener.move(move);
+        }
+
+        if(move == 0 && targetColumn >= 0 && !hasLaser(world.getLasers()))
+        {
+            inputListener.check(laserCannon.getCenter(), 0);
+        }
+    }
+
+    /**
+     * Sets move of the next steps: away from a laser falling on laser cannon, or to the column of the lowest invader.
+     */
+    private void decide(World world, LaserCannon laserCannon)
+    {
+        float x = laserCannon.getCenter();
+        float speed = maxMove * (0.5f + skill / 2);
+        Laser laser = getThreat(world.getLasers(), laserCannon);
+
+        if(laser != null)
+        {
+            targetColumn = -1;
+            float direction = laser.getCenter() > x ? -1 : 1;
+
+            // Dodge to the other side at the edge of world.
+            if(laserCannon.getX() + direction * speed < edge
+                    || laserCannon.getX() + laserCannon.getWidth() + direction * speed > Config.WIDTH - edge)
+            {
+                direction = -direction;
+            }
+
+            move = direction * speed;
+
+            return;
+        }
+
+        InvaderFormation invaderFormation = world.getInvaderFormation();
+        int column = getLowestColumn(invaderFormation, x);
+
+        if(column < 0)
+        {
+            targetColumn = -1;
+            move = 0;
+
+            return;
+        }
+
+        if(column != targetColumn)
+        {
+            targetColumn = column;
+            aimError = (random.nextFloat() * 2 - 1) * (1 - skill) * maxAimError;
+        }
+
+        int slot = invaderFormation.getBottomSlot(column);
+        float distance = invaderFormation.getX(slot) + InvaderFormation.INVADER_MAX_WIDTH / 2 + aimError - x;
+        move = Math.abs(distance) <= fireDistance ? 0 : Math.max(-speed, Math.min(speed, distance));
+    }
+
+    /**
+     * Returns the lowest invader laser falling on laser cannon, inside dodge height of skill.
+     */
+    private Laser getThreat(List<Laser> lasers, LaserCannon laserCannon)
+    {
+        float top = laserCannon.getY() + laserCannon.getHeight();
+        float height = 40 + skill * 120;
+        float margin = 4 + skill * 8;
+        float left = laserCannon.getX() - margin;
+        float right = laserCannon.getX() + laserCannon.getWidth() + margin;
+        Laser threat = null;
+        int size = lasers.size();
+
+        for(int i = 0; i < size; i++)
+        {
+            Laser laser = lasers.get(i);
+
+            if(!laser.isSourceLaserCannon() && laser.isFired() && laser.getY() - top < height
+                    && laser.getX() + laser.getWidth() > left && laser.getX() < right
+                    && (threat == null || laser.getY() < threat.getY()))
+            {
+                threat = laser;
+            }
+        }
+
+        return threat;
+    }
+
+    /**
+     * Returns column of the lowest invader, nearest to x for columns with the same bottom row.
+     */
+    private int getLowestColumn(InvaderFormation invaderFormation, float x)
+    {
+        int lowest = -1;
+        float lowestY = 0;
+        float lowestDistance = 0;
+        int columns = invaderFormation.getColumns();
+
+        for(int column = 0; column < columns; column++)
+        {
+            int slot = invaderFormation.getBottomSlot(column);
+
+            if(slot < 0)
+            {
+                continue;
+            }
+
+            float y = invaderFormation.getY(slot);
+            float distance = Math.abs(invaderFormation.getX(slot) + InvaderFormation.INVADER_MAX_WIDTH / 2 - x);
+
+            if(lowest < 0 || y < lowestY || (y == lowestY && distance < lowestDistance))
+            {
+                lowest = column;
+                lowestY = y;
+                lowestDistance = distance;
+            }
+        }
+
+        return lowest;
+    }
+
+    private boolean hasLaser(List<Laser> lasers)
+    {
+        int size = lasers.size();
+
+        for(int i = 0; i < size; i++)
+        {
+            if(lasers.get(i).isSourceLaserCannon())
+            {
+                return true;
+            }
+        }
+
+        return false;
+    }
+}
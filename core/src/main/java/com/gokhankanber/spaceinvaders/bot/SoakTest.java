@@ -0,0 +1,123 @@
+/*
+ * Copyright 2018 Gökhan Kanber
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.gokhankanber.spaceinvaders.bot;
+
+import com.gokhankanber.spaceinvaders.controller.game.GameMenu;
+import com.gokhankanber.spaceinvaders.controller.game.GameSession;
+import com.gokhankanber.spaceinvaders.model.World;
+import com.gokhankanber.spaceinvaders.profiler.SoakMonitor;
+import com.gokhankanber.spaceinvaders.provider.Config;
+import com.gokhankanber.spaceinvaders.provider.SilentAudio;
+
+/**
+ * Plays headless games with a bot as fast as possible for hours of simulated time.
+ * Reports step time drift, heap growth, and counts of live and pooled lasers and explosions every ten simulated minutes.
+ * Usage: java com.gokhankanber.spaceinvaders.bot.SoakTest [hours] [skill] [seed]
+ */
+public class SoakTest
+{
+    private static final int REPORT_TICKS = Config.STEPS_PER_SECOND * 60 * 10;
+
+    private final float step = 1.0f / Config.STEPS_PER_SECOND;
+    private final World world;
+    private final GameSession session;
+    private final GameBot bot;
+    private final SoakMonitor monitor = new SoakMonitor(REPORT_TICKS, "games", "average points", "lasers", "free lasers", "explosions", "free explosions");
+    private long games;
+    private long points;
+
+    public SoakTest(float skill, long seed)
+    {
+        world = new World(new SilentAudio(), 5, 11, seed, Config.HEADLESS_HEIGHT);
+        session = new GameSession(world, sessionListener);
+        bot = new GameBot(session, session, skill, seed);
+    }
+
+    /**
+     * Runs specified number of ticks, and prints a report every ten simulated minutes.
+     * @param ticks to run.
+     */
+    public void run(long ticks)
+    {
+        boolean end = false;
+
+        for(long tick = 1; tick <= ticks; tick++)
+        {
+            long time = System.nanoTime();
+            bot.update();
+            session.update(step);
+            monitor.add(System.nanoTime() - time);
+
+            if(world.isEnd() && !end)
+            {
+                games++;
+                points += world.getLaserCannon().points;
+            }
+
+            end = world.isEnd();
+
+            if(tick % REPORT_TICKS == 0 || tick == ticks)
+            {
+                report(tick);
+            }
+        }
+    }
+
+    private void report(long tick)
+    {
+        System.gc();
+        Runtime runtime = Runtime.getRuntime();
+        long heap = runtime.totalMemory() - runtime.freeMemory();
+        long minutes = tick / (Config.STEPS_PER_SECOND * 60);
+
+        System.out.println(minutes + " min: " + monitor.report(heap, games, games == 0 ? 0 : points / games,
+                world.getLasers().size(), world.getLaserPool().getFree(),
+                world.getExplosions().size(), world.getExplosionPool().getFree()));
+    }
+
+    private GameSession.SessionListener sessionListener = new GameSession.SessionListener()
+    {
+        @Override
+        public void buttonClicked()
+        {
+        }
+
+        @Override
+        public void gameMenuChanged(GameMenu.Type type)
+        {
+        }
+
+        @Override
+        public void exit()
+        {
+        }
+    };
+
+    public static void main(String[] args)
+    {
+        float hours = args.length > 0 ? Float.parseFloat(args[0]) : 1;
+        float skill = args.length > 1 ? Float.parseFloat(args[1]) : 0.8f;
+        long seed = args.length > 2 ? Long.parseLong(args[2]) : System.nanoTime();
+
+        SoakTest soakTest = new SoakTest(skill, seed);
+        long time = System.nanoTime();
+        soakTest.run((long) (hours * 60 * 60 * Config.STEPS_PER_SECOND));
+        time = System.nanoTime() - time;
+
+        System.out.println("simulated " + hours + " h in " + time / 1000000 + " ms");
+    }
+}
@@ -16,6 +16,7 @@
 
 package com.gokhankanber.spaceinvaders.controller.game;
 
+import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.Input.Keys;
 import com.badlogic.gdx.graphics.OrthographicCamera;
 import com.gokhankanber.spaceinvaders.controller.BaseInputController;
@@ -24,18 +25,19 @@ import com.gokhankanber.spaceinvaders.controller.BaseInputController;
  * Input controller class for {@link GameController} class.
  * Uses touchDown and touchDragged methods for moving laser cannon.
  * Uses touchUp method for click events.
+ * Events are added to input queue with event time, and game loop sends them to input listener at the start of a step.
  */
 public class GameInputController extends BaseInputController
 {
-    private InputListener inputListener;
+    private InputQueue inputQueue;
     private float startX;
     private float amount;
 
-    public GameInputController(OrthographicCamera camera, InputListener inputListener)
+    public GameInputController(OrthographicCamera camera, InputQueue inputQueue)
     {
         super(camera);
 
-        this.inputListener = inputListener;
+        this.inputQueue = inputQueue;
     }
 
     @Override
@@ -51,7 +53,7 @@ public class GameInputController extends BaseInputController
     public boolean touchUp(int screenX, int screenY, int pointer, int button)
     {
         camera.unproject(touchPoint1.set(screenX, screenY, 0));
-        inputListener.check(touchPoint1.x, touchPoint1.y); // Check click events for game menu items.
+        inputQueue.add(InputQueue.CHECK, touchPoint1.x, touchPoint1.y, Gdx.input.getCurrentEventTime()); // Check click events for game menu items.
 
         return false;
     }
@@ -66,7 +68,7 @@ public class GameInputController extends BaseInputController
             camera.unproject(touchPoint1.set(screenX, screenY, 0));
             amount = touchPoint1.x - startX;
             startX = touchPoint1.x;
-            inputListener.move(amount);
+            inputQueue.add(InputQueue.MOVE, amount, 0, Gdx.input.getCurrentEventTime());
         }
 
         return false;
@@ -78,7 +80,7 @@ public class GameInputController extends BaseInputController
         // Listen for back button
         if(keycode == Keys.BACK)
         {
-            inputListener.back();
+            inputQueue.add(InputQueue.BACK, 0, 0, Gdx.input.getCurrentEventTime());
 
             return true;
         }
@@ -0,0 +1,144 @@
+/*
+ * Copyright 2018 Gökhan Kanber
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.gokhankanber.spaceinvaders.controller.game;
+
+import com.badlogic.gdx.math.Rectangle;
+import com.gokhankanber.spaceinvaders.provider.Config;
+
+/**
+ * Layout of game menu: pause menu (Resume, New, Exit) and game end menu (New, Exit).
+ */
+public class GameMenu
+{
+    public enum Type
+    {
+        PAUSE,
+        END
+    }
+
+    private final float paddingTop = 12;
+    private final float width = 180;
+    private final float height = 150;
+    private final float x = (Config.WIDTH - width) / 2;
+    private final float y;
+    private final float itemWidth = 120.0f;
+    private final float itemHeight = 30.0f;
+    private final float itemX = (Config.WIDTH - itemWidth) / 2;
+    private final Rectangle[] itemBounds = {new Rectangle(), new Rectangle(), new Rectangle()};
+    private Type type;
+    private int itemCount;
+
+    /**
+     * @param worldHeight to center menu.
+     */
+    public GameMenu(float worldHeight)
+    {
+        y = (worldHeight - height) / 2;
+        reset(Type.PAUSE);
+    }
+
+    /**
+     * Resets menu item bounds for specified menu type.
+     * Game end menu leaves space for game end message on top.
+     * @param type of menu.
+     */
+    public void reset(Type type)
+    {
+        this.type = type;
+        float contentHeight = height;
+
+        if(type == Type.END)
+        {
+            itemCount = 2;
+            contentHeight -= (paddingTop + itemHeight);
+        }
+        else
+        {
+            itemCount = 3;
+        }
+
+        for(int i = 0; i < itemCount; i++)
+        {
+            float itemY = (contentHeight + 2 * y + (itemCount * itemHeight)) / 2 - (i + 1) * itemHeight;
+            itemBounds[i].set(itemX, itemY, itemWidth, itemHeight);
+        }
+    }
+
+    /**
+     * Finds menu item at specified point.
+     * @param x coordinate in world.
+     * @param y coordinate in world.
+     * @return item index, or -1 if there is no item at point.
+     */
+    public int getItem(float x, float y)
+    {
+        for(int i = 0; i < itemCount; i++)
+        {
+            if(itemBounds[i].contains(x, y))
+            {
+                return i;
+            }
+        }
+
+        return -1;
+    }
+
+    public Type getType()
+    {
+        return type;
+    }
+
+    public int getItemCount()
+    {
+        return itemCount;
+    }
+
+    public Rectangle getItemBounds(int index)
+    {
+        return itemBounds[index];
+    }
+
+    public float getPaddingTop()
+    {
+        return paddingTop;
+    }
+
+    public float getX()
+    {
+        return x;
+    }
+
+    public float getY()
+    {
+        return y;
+    }
+
+    public float getWidth()
+    {
+        return width;
+    }
+
+    public float getHeight()
+    {
+        return height;
+    }
+
+    public float getItemHeight()
+    {
+        return itemHeight;
+    }
+}
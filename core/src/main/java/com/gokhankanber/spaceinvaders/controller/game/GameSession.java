@@ -0,0 +1,196 @@
+/*
+ * Copyright 2018 Gökhan Kanber
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.gokhankanber.spaceinvaders.controller.game;
+
+import com.gokhankanber.spaceinvaders.controller.game.GameInputController.InputListener;
+import com.gokhankanber.spaceinvaders.model.World;
+import com.gokhankanber.spaceinvaders.profiler.LatencyTracker;
+
+/**
+ * Game session: updates world with game states and applies input to world and game menu.
+ * Game controller draws session, and replayer runs it without display.
+ */
+public class GameSession implements InputListener
+{
+    private World world;
+    private GameMenu gameMenu;
+    private SessionListener sessionListener;
+    private LatencyTracker latencyTracker = new LatencyTracker(1024);
+    private int tick;
+
+    public GameSession(World world, SessionListener sessionListener)
+    {
+        this.world = world;
+        this.sessionListener = sessionListener;
+
+        gameMenu = new GameMenu(world.getHeight());
+    }
+
+    public World getWorld()
+    {
+        return world;
+    }
+
+    public GameMenu getGameMenu()
+    {
+        return gameMenu;
+    }
+
+    /**
+     * Returns latency tracker of input applied to world.
+     * Set input time of tracker before each input event, and call rendered after each frame.
+     * @return latency tracker.
+     */
+    public LatencyTracker getLatencyTracker()
+    {
+        return latencyTracker;
+    }
+
+    public void setLatencyTracker(LatencyTracker latencyTracker)
+    {
+        this.latencyTracker = latencyTracker;
+    }
+
+    /**
+     * Returns number of simulation steps since session start.
+     * @return tick.
+     */
+    public int getTick()
+    {
+        return tick;
+    }
+
+    /**
+     * Runs a simulation step.
+     * @param delta is fixed step time.
+     */
+    public void update(float delta)
+    {
+        if(world.isResumed() || world.isReady() || world.isLoading())
+        {
+            world.update(delta);
+        }
+        else if(world.isEnding())
+        {
+            world.update(delta);
+
+            if(!world.isWaitEnding())
+            {
+                // Update may run more than once in a frame, so set end state before the next step.
+                resetGameMenu(GameMenu.Type.END);
+                world.end();
+            }
+        }
+
+        tick++;
+    }
+
+    private void resetGameMenu(GameMenu.Type type)
+    {
+        gameMenu.reset(type);
+        sessionListener.gameMenuChanged(type);
+    }
+
+    @Override
+    public void back()
+    {
+        sessionListener.buttonClicked();
+
+        // Back button toggles between pause and resume.
+        if(world.isResumed())
+        {
+            world.pause();
+        }
+        else if(world.isPaused())
+        {
+            world.resume();
+        }
+    }
+
+    @Override
+    public void move(float amount)
+    {
+        // Move by amount of change in x coordinate.
+        if(world.isResumed() && world.getLaserCannon().isAlive())
+        {
+            world.getLaserCannon().move(amount);
+            latencyTracker.applied(LatencyTracker.MOVE);
+        }
+    }
+
+    @Override
+    public void check(float x, float y)
+    {
+        // Check user touch for world states.
+        if(world.isReady())
+        {
+            world.resume();
+        }
+        else if(world.isResumed() && world.getLaserCannon().isAlive())
+        {
+            if(world.createLaser())
+            {
+                latencyTracker.applied(LatencyTracker.FIRE);
+            }
+        }
+        else if(world.isPaused())
+        {
+            switch(gameMenu.getItem(x, y))
+            {
+                case 0:
+                    // Pause menu: Resume.
+                    sessionListener.buttonClicked();
+                    world.resume();
+                    break;
+                case 1:
+                    // Pause menu: New.
+                    sessionListener.buttonClicked();
+                    world.newLevel(true);
+                    break;
+                case 2:
+                    // Pause menu: Exit.
+                    sessionListener.buttonClicked();
+                    sessionListener.exit();
+                    break;
+            }
+        }
+        else if(world.isEnd())
+        {
+            switch(gameMenu.getItem(x, y))
+            {
+                case 0:
+                    // Win / game over menu: New.
+                    sessionListener.buttonClicked();
+                    world.newLevel(true);
+                    resetGameMenu(GameMenu.Type.PAUSE);
+                    break;
+                case 1:
+                    // Win / game over menu: Exit.
+                    sessionListener.buttonClicked();
+                    sessionListener.exit();
+                    break;
+            }
+        }
+    }
+
+    public interface SessionListener
+    {
+        void buttonClicked();
+        void gameMenuChanged(GameMenu.Type type);
+        void exit();
+    }
+}
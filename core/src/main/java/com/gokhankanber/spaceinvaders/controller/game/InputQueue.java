@@ -0,0 +1,161 @@
+/*
+ * Copyright 2018 Gökhan Kanber
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.gokhankanber.spaceinvaders.controller.game;
+
+import com.gokhankanber.spaceinvaders.controller.game.GameInputController.InputListener;
+import com.gokhankanber.spaceinvaders.profiler.LatencyTracker;
+
+/**
+ * Preallocated single producer, single consumer ring buffer of input events with nanosecond timestamps.
+ * Input thread adds events, and game loop drains them at the start of a simulation step.
+ * Producer publishes an event by writing tail after the event, and consumer frees slots by writing head after reading them.
+ */
+public class InputQueue
+{
+    public static final byte BACK = 0;
+    public static final byte MOVE = 1;
+    public static final byte CHECK = 2;
+
+    private final int mask;
+    private final byte[] types;
+    private final float[] xs;
+    private final float[] ys;
+    private final long[] times;
+    private volatile long head;
+    private volatile long tail;
+    private volatile int droppedCount;
+    private long eventTime;
+    private LatencyTracker latencyTracker;
+
+    /**
+     * @param capacity number of events, a power of two.
+     */
+    public InputQueue(int capacity)
+    {
+        if(capacity <= 0 || (capacity & (capacity - 1)) != 0)
+        {
+            throw new IllegalArgumentException("Capacity must be a power of two.");
+        }
+
+        mask = capacity - 1;
+        types = new byte[capacity];
+        xs = new float[capacity];
+        ys = new float[capacity];
+        times = new long[capacity];
+    }
+
+    /**
+     * Sets latency tracker to receive time of each event before it is sent to listener.
+     * @param latencyTracker or null.
+     */
+    public void setLatencyTracker(LatencyTracker latencyTracker)
+    {
+        this.latencyTracker = latencyTracker;
+    }
+
+    /**
+     * Adds an event from producer thread. Event is dropped if queue is full.
+     * @param type of event.
+     * @param x is x coordinate, or move amount.
+     * @param y coordinate.
+     * @param time of event in nanoseconds.
+     * @return false if queue is full.
+     */
+    public boolean add(byte type, float x, float y, long time)
+    {
+        long t = tail;
+
+        if(t - head > mask)
+        {
+            droppedCount++;
+
+            return false;
+        }
+
+        int index = (int) t & mask;
+        types[index] = type;
+        xs[index] = x;
+        ys[index] = y;
+        times[index] = time;
+        tail = t + 1;
+
+        return true;
+    }
+
+    /**
+     * Sends queued events in order to listener from consumer thread.
+     * Time of the event being sent can be read with getEventTime in listener.
+     * @param inputListener to receive events.
+     * @return number of events.
+     */
+    public int drain(InputListener inputListener)
+    {
+        long h = head;
+        long t = tail;
+
+        for(long i = h; i < t; i++)
+        {
+            int index = (int) i & mask;
+            eventTime = times[index];
+
+            if(latencyTracker != null)
+            {
+                latencyTracker.setInputTime(eventTime);
+            }
+
+            switch(types[index])
+            {
+                case BACK:
+                    inputListener.back();
+                    break;
+                case MOVE:
+                    inputListener.move(xs[index]);
+                    break;
+                case CHECK:
+                    inputListener.check(xs[index], ys[index]);
+                    break;
+            }
+        }
+
+        head = t;
+
+        return (int) (t - h);
+    }
+
+    /**
+     * Returns time of the last drained event.
+     * @return time in nanoseconds.
+     */
+    public long getEventTime()
+    {
+        return eventTime;
+    }
+
+    public int size()
+    {
+        return (int) (tail - head);
+    }
+
+    /**
+     * Returns number of events dropped while queue is full.
+     * @return count.
+     */
+    public int getDroppedCount()
+    {
+        return droppedCount;
+    }
+}
@@ -0,0 +1,33 @@
+/*
+ * Copyright 2018 Gökhan Kanber
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.gokhankanber.spaceinvaders.model;
+
+import java.util.Random;
+
+/**
+ * Selects shooter of the column above laser cannon, or of the nearest column.
+ */
+public class AimedTargetingPolicy implements ITargetingPolicy
+{
+    @Override
+    public int select(InvaderFormation invaderFormation, LaserCannon laserCannon, Random random)
+    {
+        int column = invaderFormation.getColumnAt(laserCannon.getCenter());
+
+        return invaderFormation.getBottomSlot(invaderFormation.getNearestColumn(column));
+    }
+}
@@ -16,9 +16,9 @@
 
 package com.gokhankanber.spaceinvaders.model;
 
-import com.gokhankanber.spaceinvaders.provider.Asset;
 import com.gokhankanber.spaceinvaders.provider.Config;
-import java.util.Random;
+import com.gokhankanber.spaceinvaders.provider.Sprite;
+import java.nio.ByteBuffer;
 
 public class CommandAlienShip extends Model
 {
@@ -32,6 +32,7 @@ public class CommandAlienShip extends Model
         FLYING
     }
 
+    private static final State[] STATES = State.values();
     private State state;
 
     public CommandAlienShip(float x, float y, float width, float height)
@@ -76,12 +77,35 @@ public class CommandAlienShip extends Model
         return true;
     }
 
+    @Override
+    public int getSnapshotSize()
+    {
+        return super.getSnapshotSize() + 3 * 4 + 1;
+    }
+
+    @Override
+    public void save(ByteBuffer buffer)
+    {
+        super.save(buffer);
+        buffer.putInt(waitTime).putFloat(startPoint).putInt(direction).put((byte) state.ordinal());
+    }
+
+    @Override
+    public void restore(ByteBuffer buffer)
+    {
+        super.restore(buffer);
+        waitTime = buffer.getInt();
+        startPoint = buffer.getFloat();
+        direction = buffer.getInt();
+        state = STATES[buffer.get()];
+    }
+
     public void idle()
     {
         state = State.IDLE;
         iWorld.stopCommandAlienShipSound();
         waitTime = getRandomValue(Config.MIN_TIME, Config.MAX_TIME);
-        startPoint = (getRandomValue(0, 1) == 0 ? -Asset.COMMAND_ALIEN_SHIP[2] : Config.WIDTH);
+        startPoint = (getRandomValue(0, 1) == 0 ? -Sprite.COMMAND_ALIEN_SHIP[2] : Config.WIDTH);
         direction = (startPoint < 0 ? 1 : -1);
         setPositionX(startPoint);
         setBounds(8, 0);
@@ -106,8 +130,6 @@ public class CommandAlienShip extends Model
 
     private int getRandomValue(int min, int max)
     {
-        Random random = new Random();
-
-        return random.nextInt(max - min + 1) + min;
+        return iWorld.getRandom().nextInt(max - min + 1) + min;
     }
 }
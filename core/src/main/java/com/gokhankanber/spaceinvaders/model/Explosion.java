@@ -16,7 +16,10 @@
 
 package com.gokhankanber.spaceinvaders.model;
 
-public class Explosion extends Model
+import com.badlogic.gdx.utils.Pool.Poolable;
+import java.nio.ByteBuffer;
+
+public class Explosion extends Model implements Poolable
 {
     private enum State
     {
@@ -33,15 +36,27 @@ public class Explosion extends Model
         SPACE
     }
 
+    private static final State[] STATES = State.values();
+    private static final Type[] TYPES = Type.values();
+    private final float defaultTime = 0.3f;
     private State state = State.START;
     private Type type;
-    public float time = 0.3f;
+    public float time = defaultTime;
 
     public Explosion(float x, float y, float width, float height)
     {
         super(x, y, width, height);
     }
 
+    @Override
+    public void reset()
+    {
+        state = State.START;
+        type = null;
+        time = defaultTime;
+        iWorld = null;
+    }
+
     @Override
     public void update(float delta)
     {
@@ -67,6 +82,28 @@ public class Explosion extends Model
         stateTime += delta;
     }
 
+    @Override
+    public int getSnapshotSize()
+    {
+        return super.getSnapshotSize() + 2 + 4;
+    }
+
+    @Override
+    public void save(ByteBuffer buffer)
+    {
+        super.save(buffer);
+        buffer.put((byte) state.ordinal()).put((byte) type.ordinal()).putFloat(time);
+    }
+
+    @Override
+    public void restore(ByteBuffer buffer)
+    {
+        super.restore(buffer);
+        state = STATES[buffer.get()];
+        type = TYPES[buffer.get()];
+        time = buffer.getFloat();
+    }
+
     public void end()
     {
         state = State.END;
@@ -0,0 +1,34 @@
+/*
+ * Copyright 2018 Gökhan Kanber
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.gokhankanber.spaceinvaders.model;
+
+import java.util.Random;
+
+/**
+ * Targeting policy interface to select invader that fires laser.
+ */
+public interface ITargetingPolicy
+{
+    /**
+     * Selects a shooter of formation.
+     * @param invaderFormation has at least one live invader.
+     * @param laserCannon is target.
+     * @param random for random selections.
+     * @return slot of bottom invader of a column.
+     */
+    int select(InvaderFormation invaderFormation, LaserCannon laserCannon, Random random);
+}
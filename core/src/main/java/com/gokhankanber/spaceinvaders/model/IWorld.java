@@ -17,25 +17,28 @@
 package com.gokhankanber.spaceinvaders.model;
 
 import java.util.List;
+import java.util.Random;
 
 /**
  * World interface for models.
  */
 public interface IWorld
 {
-    List<Invader> getInvaders();
+    InvaderFormation getInvaderFormation();
     List<Shield> getShields();
     CommandAlienShip getCommandAlienShip();
     LaserCannon getLaserCannon();
     Ground getGround();
+    float getHeight();
     float getShieldBorder();
-    void removeInvader(int index);
+    Random getRandom();
+    void removeInvader(int slot);
     void removeCommandAlienShip();
-    void removeShields();
     void setResetLaserCannon();
     void setCheckGame();
     void setResetWorld(boolean resetWorld);
     void endGame(boolean wait);
+    Explosion obtainExplosion(float x, float y, float width, float height);
     void addExplosion(Explosion explosion);
     void playLaserCannonSound();
     void playExplosionSound();
@@ -0,0 +1,798 @@
+/*
+ * Copyright 2018 Gökhan Kanber
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.gokhankanber.spaceinvaders.model;
+
+import com.badlogic.gdx.math.Rectangle;
+import com.gokhankanber.spaceinvaders.provider.Config;
+import java.nio.ByteBuffer;
+import java.util.List;
+
+/**
+ * Invader formation stored as arrays indexed by slot (row * columns + column).
+ * Live invaders are kept in a bitset, so updates and collision queries are loops over primitive arrays.
+ * Slot order is row order from bottom, then column order from left.
+ */
+public class InvaderFormation
+{
+    public static final int INVADER_MAX_WIDTH = 32;
+    public static final int INVADER_MAX_HEIGHT = 16;
+    public static final int TYPE_COUNT = 3;
+    private final int[] paddings = {4, 6, 8};
+    private final int[] widths = {24, 22, 16};
+    private final int[] typePoints = {10, 20, 30};
+    private final float cellWidth = INVADER_MAX_WIDTH;
+    private final float cellHeight = 2 * INVADER_MAX_HEIGHT;
+
+    // Slot arrays
+    private int rows;
+    private int columns;
+    private int capacity;
+    private int size;
+    private int visibleCount;
+    private float[] x = new float[0];
+    private float[] y = new float[0];
+    private int[] type = new int[0];
+    private int[] points = new int[0];
+    private long[] alive = new long[0];
+
+    // Columns: live invader counts, bitset of columns with live invaders, and row of bottom invader.
+    private int[] columnCounts = new int[0];
+    private long[] columnMask = new long[0];
+    private int[] bottomRows = new int[0];
+
+    // Shooters: columns with live invaders in a dense array, and index of each column in that array.
+    private int[] shooterColumns = new int[0];
+    private int[] shooterIndexes = new int[0];
+    private int shooterCount;
+
+    // Formation movement: all invaders march together on one clock.
+    private float stateTime;
+    private boolean moveState;
+    private int unitDirection;
+    private boolean unitMoveDown;
+    private float unitLeft;
+    private float unitRight;
+    private float velocity;
+    private float speedRatio;
+
+    private IWorld iWorld;
+    private Ground ground;
+    private final Rectangle shieldBounds = new Rectangle();
+
+    public void setListener(IWorld iWorld)
+    {
+        this.iWorld = iWorld;
+
+        ground = iWorld.getGround();
+    }
+
+    /**
+     * Creates a full formation.
+     * @param rows number of rows.
+     * @param columns number of columns.
+     * @param startX is x coordinate of bottom left invader.
+     * @param startY is y coordinate of bottom left invader.
+     */
+    public void create(int rows, int columns, float startX, float startY)
+    {
+        this.rows = rows;
+        this.columns = columns;
+        capacity = rows * columns;
+        ensureCapacity();
+
+        int words = getWordCount();
+
+        for(int i = 0; i < words; i++)
+        {
+            alive[i] = 0;
+        }
+
+        for(int i = 0; i < getColumnWordCount(); i++)
+        {
+            columnMask[i] = 0;
+        }
+
+        for(int column = 0; column < columns; column++)
+        {
+            columnCounts[column] = rows;
+            columnMask[column >> 6] |= 1L << column;
+            bottomRows[column] = 0;
+            shooterColumns[column] = column;
+            shooterIndexes[column] = column;
+        }
+
+        shooterCount = columns;
+
+        for(int row = 0; row < rows; row++)
+        {
+            for(int column = 0; column < columns; column++)
+            {
+                int slot = row * columns + column;
+                type[slot] = getRowType(row);
+                x[slot] = startX + column * INVADER_MAX_WIDTH;
+                y[slot] = startY + row * cellHeight;
+                points[slot] = typePoints[type[slot]];
+                alive[slot >> 6] |= 1L << slot;
+            }
+        }
+
+        size = capacity;
+        visibleCount = 0;
+        stateTime = 0;
+        moveState = false;
+        speedRatio = 1;
+        unitDirection = 1;
+        unitMoveDown = false;
+        unitLeft = startX;
+        unitRight = startX + columns * INVADER_MAX_WIDTH;
+    }
+
+    private void ensureCapacity()
+    {
+        if(x.length < capacity)
+        {
+            x = new float[capacity];
+            y = new float[capacity];
+            type = new int[capacity];
+            points = new int[capacity];
+        }
+
+        int words = getWordCount();
+
+        if(alive.length < words)
+        {
+            alive = new long[words];
+        }
+
+        if(columnCounts.length < columns)
+        {
+            columnCounts = new int[columns];
+            columnMask = new long[getColumnWordCount()];
+            bottomRows = new int[columns];
+            shooterColumns = new int[columns];
+            shooterIndexes = new int[columns];
+        }
+    }
+
+    private int getWordCount()
+    {
+        return (capacity + 63) >> 6;
+    }
+
+    private int getColumnWordCount()
+    {
+        return (columns + 63) >> 6;
+    }
+
+    private int getRowType(int row)
+    {
+        switch(row)
+        {
+            case 0:
+            case 1:
+                return 0;
+            case 2:
+            case 3:
+                return 1;
+            case 4:
+                return 2;
+            default:
+                return 0;
+        }
+    }
+
+    public int size()
+    {
+        return size;
+    }
+
+    public int getCapacity()
+    {
+        return capacity;
+    }
+
+    public int getRows()
+    {
+        return rows;
+    }
+
+    public int getColumns()
+    {
+        return columns;
+    }
+
+    /**
+     * Returns next live slot starting from specified slot.
+     * @param slot to start search.
+     * @return live slot or -1.
+     */
+    public int nextAlive(int slot)
+    {
+        if(slot >= capacity)
+        {
+            return -1;
+        }
+
+        int word = slot >> 6;
+        long bits = alive[word] & (-1L << slot);
+        int words = getWordCount();
+
+        while(true)
+        {
+            if(bits != 0)
+            {
+                int next = (word << 6) + Long.numberOfTrailingZeros(bits);
+
+                return next < capacity ? next : -1;
+            }
+
+            if(++word == words)
+            {
+                return -1;
+            }
+
+            bits = alive[word];
+        }
+    }
+
+    public boolean isAlive(int slot)
+    {
+        return (alive[slot >> 6] & (1L << slot)) != 0;
+    }
+
+    public boolean isVisible(int slot)
+    {
+        return slot < visibleCount;
+    }
+
+    /**
+     * Shows one more invader.
+     * @return false if all invaders are visible.
+     */
+    public boolean showNext()
+    {
+        if(visibleCount < capacity)
+        {
+            visibleCount++;
+
+            return true;
+        }
+
+        return false;
+    }
+
+    /**
+     * Checks if invader at specified slot can fire laser (bottom invader of its column).
+     */
+    public boolean hasLaser(int slot)
+    {
+        return isAlive(slot) && bottomRows[getColumnIndex(slot)] == getRowIndex(slot);
+    }
+
+    public float getX(int slot)
+    {
+        return x[slot];
+    }
+
+    public float getY(int slot)
+    {
+        return y[slot];
+    }
+
+    public int getType(int slot)
+    {
+        return type[slot];
+    }
+
+    public int getPoints(int slot)
+    {
+        return points[slot];
+    }
+
+    /**
+     * Returns march time of formation, shared by all invaders for animation.
+     * @return state time.
+     */
+    public float getStateTime()
+    {
+        return stateTime;
+    }
+
+    public int getColumnIndex(int slot)
+    {
+        return slot % columns;
+    }
+
+    public int getRowIndex(int slot)
+    {
+        return slot / columns;
+    }
+
+    /**
+     * Sets collision bounds of invader at specified slot.
+     * @param slot of invader.
+     * @param bounds to set.
+     */
+    public void getBounds(int slot, Rectangle bounds)
+    {
+        bounds.set(x[slot] + paddings[type[slot]], y[slot], widths[type[slot]], INVADER_MAX_HEIGHT);
+    }
+
+    public void setSpeedRatio(float speedRatio)
+    {
+        this.speedRatio = speedRatio;
+    }
+
+    /**
+     * Advances march clock, and moves all invaders one step when it reaches the next second (scaled by speed ratio).
+     * Edge and descent are decided once per step, then the step is applied to every slot.
+     * @param delta time.
+     */
+    public void update(float delta)
+    {
+        stateTime += delta * speedRatio;
+
+        if(size == 0 || ((int) stateTime % 2 == 1) == moveState)
+        {
+            return;
+        }
+
+        checkWorld();
+
+        if(moveState)
+        {
+            iWorld.playInvaderMoveTwoSound();
+        }
+        else
+        {
+            iWorld.playInvaderMoveOneSound();
+        }
+
+        moveState = !moveState;
+
+        if(unitMoveDown)
+        {
+            // Bottom row of live invaders reaches ground first.
+            if(checkCollisionGround(y[nextAlive(0)] - Config.INVADER_VELOCITY))
+            {
+                iWorld.endGame(false);
+
+                return;
+            }
+
+            translate(y, -Config.INVADER_VELOCITY);
+        }
+        else
+        {
+            unitLeft += velocity;
+            unitRight += velocity;
+            translate(x, velocity);
+        }
+
+        if(y[nextAlive(0)] <= iWorld.getShieldBorder())
+        {
+            for(int slot = nextAlive(0); slot >= 0; slot = nextAlive(slot + 1))
+            {
+                if(y[slot] <= iWorld.getShieldBorder())
+                {
+                    eraseShields(slot);
+                }
+            }
+        }
+    }
+
+    /**
+     * Moves all slots, live or not, so grid of formation stays aligned.
+     */
+    private void translate(float[] values, float distance)
+    {
+        for(int slot = 0; slot < capacity; slot++)
+        {
+            values[slot] += distance;
+        }
+    }
+
+    /**
+     * Clears shield pixels under invader passing through shields.
+     * @param slot of invader.
+     */
+    private void eraseShields(int slot)
+    {
+        List<Shield> shields = iWorld.getShields();
+        int size = shields.size();
+        getBounds(slot, shieldBounds);
+
+        for(int i = 0; i < size; i++)
+        {
+            shields.get(i).erase(shieldBounds);
+        }
+    }
+
+    private boolean checkCollisionGround(float invaderY)
+    {
+        Rectangle groundBounds = ground.getBounds();
+
+        return invaderY < groundBounds.y + groundBounds.height && invaderY + INVADER_MAX_HEIGHT > groundBounds.y;
+    }
+
+    private void checkWorld()
+    {
+        unitMoveDown = false;
+        velocity = unitDirection * Config.INVADER_VELOCITY;
+
+        if((unitDirection == 1 && unitRight == Config.WIDTH - Config.INVADER_MOVE_BORDER)
+                || (unitDirection == -1 && unitLeft == Config.INVADER_MOVE_BORDER))
+        {
+            unitMoveDown = true;
+            unitDirection *= -1;
+        }
+        else if(unitDirection == 1 && unitRight + velocity >= Config.WIDTH - Config.INVADER_MOVE_BORDER)
+        {
+            velocity = Config.WIDTH - Config.INVADER_MOVE_BORDER - unitRight;
+        }
+        else if(unitDirection == -1 && unitLeft + velocity <= Config.INVADER_MOVE_BORDER)
+        {
+            velocity = Config.INVADER_MOVE_BORDER - unitLeft;
+        }
+    }
+
+    /**
+     * Returns number of bytes written by save.
+     * @return size in bytes.
+     */
+    public int getSnapshotSize()
+    {
+        return 4 * 4 + capacity * 13 + getWordCount() * 8 + columns * 16 + getColumnWordCount() * 8 + 4 * 7 + 2;
+    }
+
+    /**
+     * Writes formation arrays and movement state for world snapshot.
+     * @param buffer to write.
+     */
+    public void save(ByteBuffer buffer)
+    {
+        buffer.putInt(rows).putInt(columns).putInt(size).putInt(visibleCount);
+
+        for(int slot = 0; slot < capacity; slot++)
+        {
+            buffer.putFloat(x[slot]).putFloat(y[slot]).put((byte) type[slot]).putInt(points[slot]);
+        }
+
+        for(int i = 0; i < getWordCount(); i++)
+        {
+            buffer.putLong(alive[i]);
+        }
+
+        for(int column = 0; column < columns; column++)
+        {
+            buffer.putInt(columnCounts[column]).putInt(bottomRows[column]).putInt(shooterColumns[column]).putInt(shooterIndexes[column]);
+        }
+
+        for(int i = 0; i < getColumnWordCount(); i++)
+        {
+            buffer.putLong(columnMask[i]);
+        }
+
+        buffer.putInt(shooterCount).putFloat(stateTime).putInt(unitDirection).putFloat(unitLeft).putFloat(unitRight).putFloat(velocity).putFloat(speedRatio);
+        buffer.put((byte) (moveState ? 1 : 0)).put((byte) (unitMoveDown ? 1 : 0));
+    }
+
+    /**
+     * Reads state written by save. Arrays are reallocated only if formation is larger than current capacity.
+     * @param buffer to read.
+     */
+    public void restore(ByteBuffer buffer)
+    {
+        rows = buffer.getInt();
+        columns = buffer.getInt();
+        capacity = rows * columns;
+        ensureCapacity();
+        size = buffer.getInt();
+        visibleCount = buffer.getInt();
+
+        for(int slot = 0; slot < capacity; slot++)
+        {
+            x[slot] = buffer.getFloat();
+            y[slot] = buffer.getFloat();
+            type[slot] = buffer.get();
+            points[slot] = buffer.getInt();
+        }
+
+        for(int i = 0; i < getWordCount(); i++)
+        {
+            alive[i] = buffer.getLong();
+        }
+
+        for(int column = 0; column < columns; column++)
+        {
+            columnCounts[column] = buffer.getInt();
+            bottomRows[column] = buffer.getInt();
+            shooterColumns[column] = buffer.getInt();
+            shooterIndexes[column] = buffer.getInt();
+        }
+
+        for(int i = 0; i < getColumnWordCount(); i++)
+        {
+            columnMask[i] = buffer.getLong();
+        }
+
+        shooterCount = buffer.getInt();
+        stateTime = buffer.getFloat();
+        unitDirection = buffer.getInt();
+        unitLeft = buffer.getFloat();
+        unitRight = buffer.getFloat();
+        velocity = buffer.getFloat();
+        speedRatio = buffer.getFloat();
+        moveState = buffer.get() != 0;
+        unitMoveDown = buffer.get() != 0;
+    }
+
+    /**
+     * Finds first invader, in slot order, that overlaps with specified bounds.
+     * Checks only the cells under bounds, calculated from position of a live invader.
+     * @param bounds to check.
+     * @return slot or -1.
+     */
+    public int query(Rectangle bounds)
+    {
+        return sweep(bounds, 0);
+    }
+
+    /**
+     * Finds the first invader hit by bounds moving vertically by specified distance.
+     * Checks only the cells under the path of bounds, and returns the invader with the earliest contact.
+     * @param bounds at start of movement.
+     * @param distance of vertical movement, negative for moving down.
+     * @return slot or -1.
+     */
+    public int sweep(Rectangle bounds, float distance)
+    {
+        int anchor = nextAlive(0);
+
+        if(anchor < 0)
+        {
+            return -1;
+        }
+
+        float bottom = distance < 0 ? bounds.y + distance : bounds.y;
+        float height = bounds.height + Math.abs(distance);
+        float originX = x[anchor] - getColumnIndex(anchor) * cellWidth;
+        float originY = y[anchor] - getRowIndex(anchor) * cellHeight;
+        int firstColumn = Math.max((int) Math.floor((bounds.x - originX) / cellWidth), 0);
+        int lastColumn = Math.min((int) Math.floor((bounds.x + bounds.width - originX) / cellWidth), columns - 1);
+        int firstRow = Math.max((int) Math.floor((bottom - originY) / cellHeight), 0);
+        int lastRow = Math.min((int) Math.floor((bottom + height - originY) / cellHeight), rows - 1);
+        int found = -1;
+        float foundTime = Float.MAX_VALUE;
+
+        for(int row = firstRow; row <= lastRow; row++)
+        {
+            for(int column = firstColumn; column <= lastColumn; column++)
+            {
+                int slot = row * columns + column;
+
+                if(isAlive(slot) && overlaps(slot, bounds.x, bottom, bounds.width, height))
+                {
+                    float time = 0;
+
+                    if(distance > 0)
+                    {
+                        time = (y[slot] - bounds.y - bounds.height) / distance;
+                    }
+                    else if(distance < 0)
+                    {
+                        time = (y[slot] + INVADER_MAX_HEIGHT - bounds.y) / distance;
+                    }
+
+                    if(time < foundTime)
+                    {
+                        found = slot;
+                        foundTime = time;
+                    }
+                }
+            }
+        }
+
+        return found;
+    }
+
+    private boolean overlaps(int slot, float boundsX, float boundsY, float width, float height)
+    {
+        float left = x[slot] + paddings[type[slot]];
+        float bottom = y[slot];
+
+        return boundsX < left + widths[type[slot]] && boundsX + width > left
+                && boundsY < bottom + INVADER_MAX_HEIGHT && boundsY + height > bottom;
+    }
+
+    /**
+     * Removes invader, then updates column counts, bottom invader of column, and formation borders.
+     * Scans rows of the column only if bottom invader is removed, so each slot is scanned once per level.
+     * @param slot of invader.
+     * @return points of invader.
+     */
+    public int remove(int slot)
+    {
+        int column = getColumnIndex(slot);
+        int row = getRowIndex(slot);
+        alive[slot >> 6] &= ~(1L << slot);
+        size--;
+
+        if(--columnCounts[column] == 0)
+        {
+            columnMask[column >> 6] &= ~(1L << column);
+            bottomRows[column] = -1;
+            removeShooter(column);
+        }
+        else if(bottomRows[column] == row)
+        {
+            int next = row + 1;
+
+            while(!isAlive(next * columns + column))
+            {
+                next++;
+            }
+
+            bottomRows[column] = next;
+        }
+
+        if(size > 0)
+        {
+            int left = getLeftColumn();
+            int right = getRightColumn();
+            unitLeft = x[bottomRows[left] * columns + left];
+            unitRight = x[bottomRows[right] * columns + right] + INVADER_MAX_WIDTH;
+        }
+
+        return points[slot];
+    }
+
+    /**
+     * Removes column from shooters by moving last shooter to its index.
+     */
+    private void removeShooter(int column)
+    {
+        int index = shooterIndexes[column];
+        int last = shooterColumns[--shooterCount];
+        shooterColumns[index] = last;
+        shooterIndexes[last] = index;
+    }
+
+    public int getShooterCount()
+    {
+        return shooterCount;
+    }
+
+    /**
+     * Returns slot of shooter at specified index of shooters.
+     * @param index in range [0, shooter count).
+     * @return slot of bottom invader.
+     */
+    public int getShooterSlot(int index)
+    {
+        return getBottomSlot(shooterColumns[index]);
+    }
+
+    /**
+     * Returns column under specified x coordinate, calculated from position of left column.
+     * @param x coordinate.
+     * @return column index, can be out of formation columns.
+     */
+    public int getColumnAt(float x)
+    {
+        int left = getLeftColumn();
+
+        if(left < 0)
+        {
+            return -1;
+        }
+
+        float originX = this.x[getBottomSlot(left)] - left * cellWidth;
+
+        return (int) Math.floor((x - originX) / cellWidth);
+    }
+
+    /**
+     * Returns nearest column with live invaders to specified column.
+     * @param column index.
+     * @return column index or -1.
+     */
+    public int getNearestColumn(int column)
+    {
+        int left = getLeftColumn();
+        int right = getRightColumn();
+
+        if(left < 0)
+        {
+            return -1;
+        }
+
+        if(column <= left)
+        {
+            return left;
+        }
+
+        if(column >= right)
+        {
+            return right;
+        }
+
+        int previous = column;
+        int next = column;
+
+        while(columnCounts[previous] == 0 && columnCounts[next] == 0)
+        {
+            previous--;
+            next++;
+        }
+
+        return columnCounts[previous] > 0 ? previous : next;
+    }
+
+    public int getColumnCount(int column)
+    {
+        return columnCounts[column];
+    }
+
+    /**
+     * Returns first column with live invaders.
+     * @return column index or -1.
+     */
+    public int getLeftColumn()
+    {
+        int words = getColumnWordCount();
+
+        for(int i = 0; i < words; i++)
+        {
+            if(columnMask[i] != 0)
+            {
+                return (i << 6) + Long.numberOfTrailingZeros(columnMask[i]);
+            }
+        }
+
+        return -1;
+    }
+
+    /**
+     * Returns last column with live invaders.
+     * @return column index or -1.
+     */
+    public int getRightColumn()
+    {
+        for(int i = getColumnWordCount() - 1; i >= 0; i--)
+        {
+            if(columnMask[i] != 0)
+            {
+                return (i << 6) + 63 - Long.numberOfLeadingZeros(columnMask[i]);
+            }
+        }
+
+        return -1;
+    }
+
+    /**
+     * Returns slot of bottom invader, which can fire laser, in specified column.
+     * @param column index.
+     * @return slot or -1.
+     */
+    public int getBottomSlot(int column)
+    {
+        int row = bottomRows[column];
+
+        return row < 0 ? -1 : row * columns + column;
+    }
+}
@@ -0,0 +1,407 @@
+/*
+ * Copyright 2018 Gökhan Kanber
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.gokhankanber.spaceinvaders.model;
+
+import com.badlogic.gdx.math.Rectangle;
+import com.badlogic.gdx.utils.Pool.Poolable;
+import com.gokhankanber.spaceinvaders.provider.Config;
+import com.gokhankanber.spaceinvaders.provider.Sprite;
+import java.nio.ByteBuffer;
+import java.util.List;
+
+public class Laser extends Model implements Poolable
+{
+    private enum State
+    {
+        FIRED,
+        EXPLODING
+    }
+
+    private enum Source
+    {
+        INVADER,
+        LASERCANNON
+    }
+
+    private enum Type
+    {
+        LASER1,
+        LASER2,
+        LASER3,
+        LASER4
+    }
+
+    private enum Target
+    {
+        NONE,
+        INVADER,
+        COMMAND_ALIEN_SHIP,
+        LASER_CANNON,
+        GROUND,
+        SHIELD
+    }
+
+    private static final State[] STATES = State.values();
+    private static final Source[] SOURCES = Source.values();
+    private static final Type[] TYPES = Type.values();
+    private State state = State.FIRED;
+    private Source source = Source.INVADER;
+    private Type type;
+    private InvaderFormation invaderFormation;
+    private final Rectangle invaderBounds = new Rectangle();
+    private final Rectangle sweptBounds = new Rectangle();
+    private Target target;
+    private float targetTime;
+    private int targetIndex;
+    private int targetRow;
+    private List<Shield> shields;
+    private CommandAlienShip commandAlienShip;
+    private LaserCannon laserCannon;
+    private Ground ground;
+
+    public Laser(float x, float y, float width, float height)
+    {
+        super(x, y, width, height);
+    }
+
+    @Override
+    public void reset()
+    {
+        state = State.FIRED;
+        source = Source.INVADER;
+        type = null;
+        invaderFormation = null;
+        shields = null;
+        commandAlienShip = null;
+        laserCannon = null;
+        ground = null;
+        iWorld = null;
+    }
+
+    public boolean isSourceLaserCannon()
+    {
+        return source == Source.LASERCANNON;
+    }
+
+    public void setSourceLaserCannon()
+    {
+        source = Source.LASERCANNON;
+        type = Type.LASER4;
+    }
+
+    public boolean isLaser1()
+    {
+        return type == Type.LASER1;
+    }
+
+    public boolean isLaser2()
+    {
+        return type == Type.LASER2;
+    }
+
+    public boolean isLaser3()
+    {
+        return type == Type.LASER3;
+    }
+
+    public boolean isLaser4()
+    {
+        return type == Type.LASER4;
+    }
+
+    public void setType(int type)
+    {
+        switch(type)
+        {
+            case 0:
+                this.type = Type.LASER1;
+                break;
+            case 1:
+                this.type = Type.LASER2;
+                break;
+            case 2:
+                this.type = Type.LASER3;
+                break;
+        }
+    }
+
+    @Override
+    public void setListener(IWorld iWorld)
+    {
+        super.setListener(iWorld);
+
+        switch(source)
+        {
+            case INVADER:
+                setAcceleration(-Config.LASER_ACCELERATION);
+                laserCannon = iWorld.getLaserCannon();
+                invaderFormation = iWorld.getInvaderFormation();
+                ground = iWorld.getGround();
+                break;
+            case LASERCANNON:
+                setAcceleration(Config.LASER_ACCELERATION);
+                invaderFormation = iWorld.getInvaderFormation();
+                commandAlienShip = iWorld.getCommandAlienShip();
+                break;
+            default:
+                throw new IllegalArgumentException("Set a valid source before calling this method.");
+        }
+
+        shields = iWorld.getShields();
+    }
+
+    @Override
+    public void update(float delta)
+    {
+        if(isFired())
+        {
+            velocity.y = acceleration.y * delta;
+
+            checkCollision();
+
+            if(isFired())
+            {
+                bounds.y += velocity.y;
+                checkWorld();
+            }
+
+            position.x = bounds.x;
+            position.y = bounds.y;
+        }
+
+        stateTime += delta;
+    }
+
+    @Override
+    public int getSnapshotSize()
+    {
+        return super.getSnapshotSize() + 3;
+    }
+
+    @Override
+    public void save(ByteBuffer buffer)
+    {
+        super.save(buffer);
+        buffer.put((byte) state.ordinal()).put((byte) source.ordinal()).put((byte) type.ordinal());
+    }
+
+    /**
+     * Reads state written by save. Set listener after restore to set references of source.
+     * @param buffer to read.
+     */
+    @Override
+    public void restore(ByteBuffer buffer)
+    {
+        super.restore(buffer);
+        state = STATES[buffer.get()];
+        source = SOURCES[buffer.get()];
+        type = TYPES[buffer.get()];
+    }
+
+    public void setAcceleration(float accelerationValue)
+    {
+        acceleration.y = accelerationValue;
+    }
+
+    /**
+     * Sweeps laser along its path in this step, and resolves only the earliest hit,
+     * so a laser can not pass through a model at large delta.
+     */
+    @Override
+    protected void checkCollision()
+    {
+        super.checkCollision();
+
+        getSweptBounds(sweptBounds);
+        target = Target.NONE;
+        targetTime = Float.MAX_VALUE;
+
+        switch(source)
+        {
+            case INVADER:
+                checkCollisionInvader();
+                break;
+            case LASERCANNON:
+                checkCollisionLaserCannon();
+                break;
+            default:
+                throw new IllegalArgumentException("Set a valid source before calling this method.");
+        }
+
+        checkCollisionShield();
+
+        if(target != Target.NONE)
+        {
+            bounds.y += velocity.y * targetTime;
+            explode();
+            hit();
+        }
+    }
+
+    private void checkCollisionInvader()
+    {
+        if(invaderFormation.size() > 0)
+        {
+            setTarget(Target.LASER_CANNON, sweepY(sweptBounds, laserCannon.bounds), 0, 0);
+        }
+
+        setTarget(Target.GROUND, sweepY(sweptBounds, ground.bounds), 0, 0);
+    }
+
+    private void checkCollisionLaserCannon()
+    {
+        // Check only the grid cells under the path of laser.
+        int slot = invaderFormation.sweep(bounds, velocity.y);
+
+        if(slot >= 0)
+        {
+            invaderFormation.getBounds(slot, invaderBounds);
+            setTarget(Target.INVADER, getSweepTime(invaderBounds.y, invaderBounds.y + invaderBounds.height), slot, 0);
+        }
+
+        setTarget(Target.COMMAND_ALIEN_SHIP, sweepY(sweptBounds, commandAlienShip.bounds), 0, 0);
+    }
+
+    /**
+     * Checks solid pixels of shields under the path of laser.
+     */
+    private void checkCollisionShield()
+    {
+        int size = shields.size();
+        boolean down = source == Source.INVADER;
+
+        for(int i = 0; i < size; i++)
+        {
+            Shield shield = shields.get(i);
+            int row = shield.hit(sweptBounds, down);
+
+            if(row >= 0)
+            {
+                setTarget(Target.SHIELD, getSweepTime(shield.getRowBottom(row), shield.getRowTop(row)), i, row);
+            }
+        }
+    }
+
+    /**
+     * Keeps the hit with the earliest time in this step.
+     * @param target model type.
+     * @param time of hit, or -1 for no hit.
+     * @param index of invader slot or shield.
+     * @param row of shield.
+     */
+    private void setTarget(Target target, float time, int index, int row)
+    {
+        if(time >= 0 && time < targetTime)
+        {
+            this.target = target;
+            targetTime = time;
+            targetIndex = index;
+            targetRow = row;
+        }
+    }
+
+    /**
+     * Applies hit of the earliest target after laser is moved to the contact position.
+     */
+    private void hit()
+    {
+        Explosion explosion = null;
+
+        switch(target)
+        {
+            case INVADER:
+                iWorld.playExplosionSound();
+                explosion = iWorld.obtainExplosion(invaderFormation.getX(targetIndex), invaderFormation.getY(targetIndex), Sprite.INVADER_EXPLOSION[2] * 2, Sprite.INVADER_EXPLOSION[3] * 2);
+                explosion.invader();
+                iWorld.addExplosion(explosion);
+                iWorld.removeInvader(targetIndex);
+                break;
+            case COMMAND_ALIEN_SHIP:
+                iWorld.playExplosionSound();
+                explosion = iWorld.obtainExplosion(commandAlienShip.getX(), commandAlienShip.getY(), Sprite.COMMAND_ALIEN_SHIP[2], Sprite.COMMAND_ALIEN_SHIP[3] * 2);
+                explosion.commandAlienShip();
+                iWorld.addExplosion(explosion);
+                iWorld.removeCommandAlienShip();
+                break;
+            case LASER_CANNON:
+                laserCannon.die();
+                break;
+            case GROUND:
+                explosion = iWorld.obtainExplosion(bounds.x, bounds.y, Sprite.INVADER_LASER_EXPLOSION[2] * 2, Sprite.INVADER_LASER_EXPLOSION[3] * 2);
+                explosion.ground();
+                iWorld.addExplosion(explosion);
+                break;
+            case SHIELD:
+                hitShield(shields.get(targetIndex));
+                break;
+        }
+    }
+
+    /**
+     * Erodes shield with explosion sprite.
+     */
+    private void hitShield(Shield shield)
+    {
+        Explosion explosion = null;
+
+        switch(source)
+        {
+            case INVADER:
+                shield.erode(Sprite.INVADER_LASER_EXPLOSION, getCenter(), targetRow);
+                explosion = iWorld.obtainExplosion(bounds.x, bounds.y, Sprite.INVADER_LASER_EXPLOSION[2] * 2, Sprite.INVADER_LASER_EXPLOSION[3] * 2);
+                explosion.ground();
+                break;
+            case LASERCANNON:
+                shield.erode(Sprite.PLAYER_LASER_EXPLOSION, getCenter(), targetRow);
+                explosion = iWorld.obtainExplosion(bounds.x, bounds.y, Sprite.PLAYER_LASER_EXPLOSION[2] * 2, Sprite.PLAYER_LASER_EXPLOSION[3] * 2);
+                explosion.space();
+                break;
+        }
+
+        if(explosion != null)
+        {
+            iWorld.addExplosion(explosion);
+        }
+    }
+
+    private void checkWorld()
+    {
+        if((source == Source.LASERCANNON) && (bounds.y + bounds.height > iWorld.getHeight() - 22))
+        {
+            bounds.y = bounds.y - 4;
+            explode();
+            Explosion explosion = iWorld.obtainExplosion(bounds.x, bounds.y, Sprite.PLAYER_LASER_EXPLOSION[2] * 2, Sprite.PLAYER_LASER_EXPLOSION[3] * 2);
+            explosion.space();
+            iWorld.addExplosion(explosion);
+        }
+    }
+
+    public void explode()
+    {
+        state = State.EXPLODING;
+    }
+
+    public boolean isFired()
+    {
+        return state == State.FIRED;
+    }
+
+    public boolean isExploding()
+    {
+        return state == State.EXPLODING;
+    }
+}
@@ -18,6 +18,7 @@ package com.gokhankanber.spaceinvaders.model;
 
 import com.badlogic.gdx.math.Vector2;
 import com.gokhankanber.spaceinvaders.provider.Config;
+import java.nio.ByteBuffer;
 
 public class LaserCannon extends Model
 {
@@ -29,6 +30,7 @@ public class LaserCannon extends Model
         DEAD
     }
 
+    private static final State[] STATES = State.values();
     private State state;
     private final float padding = 32;
     private Vector2 startPoint;
@@ -121,12 +123,35 @@ public class LaserCannon extends Model
         lives--;
         iWorld.setResetWorld(true);
         iWorld.setResetLaserCannon();
-        Explosion explosion = new Explosion(bounds.x, bounds.y, getWidth(), getHeight());
+        Explosion explosion = iWorld.obtainExplosion(bounds.x, bounds.y, getWidth(), getHeight());
         explosion.laserCannon();
         explosion.time = 2;
         iWorld.addExplosion(explosion);
     }
 
+    @Override
+    public int getSnapshotSize()
+    {
+        return super.getSnapshotSize() + 1 + 3 * 4;
+    }
+
+    @Override
+    public void save(ByteBuffer buffer)
+    {
+        super.save(buffer);
+        buffer.put((byte) state.ordinal()).putInt(points).putInt(lives).putInt(level);
+    }
+
+    @Override
+    public void restore(ByteBuffer buffer)
+    {
+        super.restore(buffer);
+        state = STATES[buffer.get()];
+        points = buffer.getInt();
+        lives = buffer.getInt();
+        level = buffer.getInt();
+    }
+
     public void ready()
     {
         stateTime = 0;
@@ -0,0 +1,278 @@
+/*
+ * Copyright 2018 Gökhan Kanber
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.gokhankanber.spaceinvaders.model;
+
+import com.badlogic.gdx.math.Rectangle;
+import com.badlogic.gdx.math.Vector2;
+import java.nio.ByteBuffer;
+
+public class Model
+{
+    protected Rectangle bounds;
+    protected float stateTime;
+    protected Vector2 position;
+    protected Vector2 acceleration;
+    protected Vector2 velocity;
+    protected float previousX;
+    protected float previousY;
+    protected IWorld iWorld;
+
+    public Model(float x, float y, float width, float height)
+    {
+        bounds = new Rectangle(x, y, width, height);
+        position = new Vector2(x, y);
+        acceleration = new Vector2();
+        velocity = new Vector2();
+        previousX = x;
+        previousY = y;
+    }
+
+    /**
+     * Sets bounds and position, and clears motion and state time to reuse model.
+     */
+    public void init(float x, float y, float width, float height)
+    {
+        bounds.set(x, y, width, height);
+        position.set(x, y);
+        acceleration.setZero();
+        velocity.setZero();
+        previousX = x;
+        previousY = y;
+        stateTime = 0;
+    }
+
+    public void setBounds(float paddingLeft, float paddingBottom)
+    {
+        bounds.x += paddingLeft;
+        bounds.y += paddingBottom;
+    }
+
+    public IWorld getListener()
+    {
+        return iWorld;
+    }
+
+    public void setListener(IWorld iWorld)
+    {
+        this.iWorld = iWorld;
+    }
+
+    public float getStateTime()
+    {
+        return stateTime;
+    }
+
+    public void setStateTime(float stateTime)
+    {
+        this.stateTime = stateTime;
+    }
+
+    public float getX()
+    {
+        return position.x;
+    }
+
+    public float getY()
+    {
+        return position.y;
+    }
+
+    /**
+     * Saves current position as previous position before a simulation step.
+     */
+    public void savePosition()
+    {
+        previousX = position.x;
+        previousY = position.y;
+    }
+
+    /**
+     * Returns x coordinate between previous and current position for rendering.
+     * @param alpha is interpolation value in range [0, 1].
+     * @return interpolated x coordinate.
+     */
+    public float getInterpolatedX(float alpha)
+    {
+        return previousX + (position.x - previousX) * alpha;
+    }
+
+    public float getInterpolatedY(float alpha)
+    {
+        return previousY + (position.y - previousY) * alpha;
+    }
+
+    public void setPositionX(float x)
+    {
+        bounds.x = x;
+        position.x = x;
+    }
+
+    public void setPosition(float x, float y)
+    {
+        bounds.x = x;
+        position.x = x;
+        bounds.y = y;
+        position.y = y;
+    }
+
+    public Rectangle getBounds()
+    {
+        return bounds;
+    }
+
+    public float getWidth()
+    {
+        return bounds.width;
+    }
+
+    public float getHeight()
+    {
+        return bounds.height;
+    }
+
+    public float getCenter()
+    {
+        return (bounds.x + bounds.width / 2);
+    }
+
+    public Vector2 getAcceleration()
+    {
+        return acceleration;
+    }
+
+    public void setAcceleration(float x)
+    {
+        acceleration.x = x;
+    }
+
+    public Vector2 getVelocity()
+    {
+        return velocity;
+    }
+
+    public void setVelocityY(float y)
+    {
+        velocity.y = y;
+    }
+
+    public void update(float delta)
+    {
+    }
+
+    protected void checkCollision()
+    {
+    }
+
+    /**
+     * Sets rectangle covered by bounds while moving vertically by velocity in this step.
+     * @param swept rectangle to set.
+     */
+    protected void getSweptBounds(Rectangle swept)
+    {
+        float bottom = velocity.y < 0 ? bounds.y + velocity.y : bounds.y;
+
+        swept.set(bounds.x, bottom, bounds.width, bounds.height + Math.abs(velocity.y));
+    }
+
+    /**
+     * Finds time of first contact of bounds moving vertically by velocity with specified rectangle.
+     * @param swept bounds of this step.
+     * @param rectangle to check.
+     * @return time in range [0, 1] of this step, or -1 if bounds do not reach rectangle.
+     */
+    protected float sweepY(Rectangle swept, Rectangle rectangle)
+    {
+        if(swept.overlaps(rectangle))
+        {
+            return getSweepTime(rectangle.y, rectangle.y + rectangle.height);
+        }
+
+        return -1;
+    }
+
+    /**
+     * Returns time when bounds moving vertically by velocity reach the specified vertical span.
+     * @param bottom of span.
+     * @param top of span.
+     * @return time in range [0, 1] of this step.
+     */
+    protected float getSweepTime(float bottom, float top)
+    {
+        float time = 0;
+
+        if(velocity.y > 0)
+        {
+            time = (bottom - bounds.y - bounds.height) / velocity.y;
+        }
+        else if(velocity.y < 0)
+        {
+            time = (top - bounds.y) / velocity.y;
+        }
+
+        return Math.max(0, Math.min(time, 1));
+    }
+
+    /**
+     * Returns number of bytes written by save.
+     * @return size in bytes.
+     */
+    public int getSnapshotSize()
+    {
+        return 13 * 4;
+    }
+
+    /**
+     * Writes bounds, position, motion, and state time for world snapshot.
+     * @param buffer to write.
+     */
+    public void save(ByteBuffer buffer)
+    {
+        buffer.putFloat(bounds.x).putFloat(bounds.y).putFloat(bounds.width).putFloat(bounds.height);
+        buffer.putFloat(position.x).putFloat(position.y);
+        buffer.putFloat(acceleration.x).putFloat(acceleration.y);
+        buffer.putFloat(velocity.x).putFloat(velocity.y);
+        buffer.putFloat(previousX).putFloat(previousY);
+        buffer.putFloat(stateTime);
+    }
+
+    /**
+     * Reads state written by save.
+     * @param buffer to read.
+     */
+    public void restore(ByteBuffer buffer)
+    {
+        bounds.set(buffer.getFloat(), buffer.getFloat(), buffer.getFloat(), buffer.getFloat());
+        position.set(buffer.getFloat(), buffer.getFloat());
+        acceleration.set(buffer.getFloat(), buffer.getFloat());
+        velocity.set(buffer.getFloat(), buffer.getFloat());
+        previousX = buffer.getFloat();
+        previousY = buffer.getFloat();
+        stateTime = buffer.getFloat();
+    }
+
+    public void wait(float delta, float waitTime)
+    {
+        if(stateTime >= waitTime)
+        {
+            stateTime = 0;
+        }
+        else
+        {
+            stateTime += delta;
+        }
+    }
+}
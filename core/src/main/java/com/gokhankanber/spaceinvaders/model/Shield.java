@@ -0,0 +1,293 @@
+/*
+ * Copyright 2018 Gökhan Kanber
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.gokhankanber.spaceinvaders.model;
+
+import com.badlogic.gdx.math.Rectangle;
+import com.gokhankanber.spaceinvaders.provider.Sprite;
+import java.nio.ByteBuffer;
+
+/**
+ * Destructible shield with a pixel mask of shield sprite.
+ * Each row of sprite is a long (the most significant bit of sprite width is the leftmost pixel),
+ * and row 0 is the top row. Lasers and invaders erode pixels, and changed rows are marked dirty for rendering.
+ */
+public class Shield extends Model
+{
+    private final int columns = Sprite.SHIELD[2];
+    private final int rows = Sprite.SHIELD[3];
+    private final long fullRow = (1L << columns) - 1;
+    private final long[] mask = new long[rows];
+    private final float pixelWidth;
+    private final float pixelHeight;
+    private int dirtyTop;
+    private int dirtyBottom;
+
+    public Shield(float x, float y, float width, float height)
+    {
+        super(x, y, width, height);
+
+        pixelWidth = width / columns;
+        pixelHeight = height / rows;
+
+        for(int row = 0; row < rows; row++)
+        {
+            mask[row] = Sprite.getRow(Sprite.SHIELD, row);
+        }
+
+        markDirty(0, rows - 1);
+    }
+
+    public int getColumns()
+    {
+        return columns;
+    }
+
+    public int getRows()
+    {
+        return rows;
+    }
+
+    public long getRow(int row)
+    {
+        return mask[row];
+    }
+
+    public boolean isSolid(int column, int row)
+    {
+        return (mask[row] & getBit(column)) != 0;
+    }
+
+    /**
+     * Finds the first solid row under specified bounds in the direction of motion.
+     * @param rectangle of moving model.
+     * @param down is true for models moving down.
+     * @return row, or -1 if there is no solid pixel under bounds.
+     */
+    public int hit(Rectangle rectangle, boolean down)
+    {
+        if(!bounds.overlaps(rectangle))
+        {
+            return -1;
+        }
+
+        int left = getColumn(rectangle.x);
+        int right = getColumn(rectangle.x + rectangle.width - 0.001f);
+        int top = getRowAt(rectangle.y + rectangle.height - 0.001f);
+        int bottom = getRowAt(rectangle.y);
+
+        long columnMask = getColumnMask(left, right);
+
+        if(down)
+        {
+            for(int row = top; row <= bottom; row++)
+            {
+                if((mask[row] & columnMask) != 0)
+                {
+                    return row;
+                }
+            }
+        }
+        else
+        {
+            for(int row = bottom; row >= top; row--)
+            {
+                if((mask[row] & columnMask) != 0)
+                {
+                    return row;
+                }
+            }
+        }
+
+        return -1;
+    }
+
+    /**
+     * Clears pixels of explosion sprite centered at specified position.
+     * @param region of explosion sprite in sprite sheet.
+     * @param centerX of explosion in world.
+     * @param row of explosion center.
+     */
+    public void erode(int[] region, float centerX, int row)
+    {
+        int width = region[2];
+        int height = region[3];
+        int left = (int) Math.floor((centerX - bounds.x) / pixelWidth) - width / 2;
+        int shift = columns - left - width;
+        int top = row - height / 2;
+        int first = Math.max(top, 0);
+        int last = Math.min(top + height, rows) - 1;
+
+        for(int i = first; i <= last; i++)
+        {
+            long bits = Sprite.getRow(region, i - top);
+            bits = shift >= 0 ? bits << shift : bits >>> -shift;
+            mask[i] &= ~bits & fullRow;
+        }
+
+        markDirty(first, last);
+    }
+
+    /**
+     * Clears all pixels under specified bounds (invaders passing through shield).
+     * @param rectangle of model.
+     */
+    public void erase(Rectangle rectangle)
+    {
+        if(!bounds.overlaps(rectangle))
+        {
+            return;
+        }
+
+        int left = getColumn(rectangle.x);
+        int right = getColumn(rectangle.x + rectangle.width - 0.001f);
+        int top = getRowAt(rectangle.y + rectangle.height - 0.001f);
+        int bottom = getRowAt(rectangle.y);
+
+        long columnMask = getColumnMask(left, right);
+        boolean changed = false;
+
+        for(int row = top; row <= bottom; row++)
+        {
+            if((mask[row] & columnMask) != 0)
+            {
+                mask[row] &= ~columnMask;
+                changed = true;
+            }
+        }
+
+        if(changed)
+        {
+            markDirty(top, bottom);
+        }
+    }
+
+    /**
+     * Returns world y coordinate of top edge of row.
+     * @param row of mask.
+     * @return y coordinate.
+     */
+    public float getRowTop(int row)
+    {
+        return bounds.y + (rows - row) * pixelHeight;
+    }
+
+    public float getRowBottom(int row)
+    {
+        return bounds.y + (rows - row - 1) * pixelHeight;
+    }
+
+    /**
+     * Returns number of bytes of pixel mask. Bounds of shield do not change.
+     * @return size in bytes.
+     */
+    @Override
+    public int getSnapshotSize()
+    {
+        return rows * 8;
+    }
+
+    @Override
+    public void save(ByteBuffer buffer)
+    {
+        for(int row = 0; row < rows; row++)
+        {
+            buffer.putLong(mask[row]);
+        }
+    }
+
+    @Override
+    public void restore(ByteBuffer buffer)
+    {
+        for(int row = 0; row < rows; row++)
+        {
+            mask[row] = buffer.getLong();
+        }
+
+        markDirty(0, rows - 1);
+    }
+
+    public boolean isDirty()
+    {
+        return dirtyTop <= dirtyBottom;
+    }
+
+    public int getDirtyTop()
+    {
+        return dirtyTop;
+    }
+
+    public int getDirtyBottom()
+    {
+        return dirtyBottom;
+    }
+
+    /**
+     * Clears dirty rows after renderer uploads them.
+     */
+    public void clearDirty()
+    {
+        dirtyTop = rows;
+        dirtyBottom = -1;
+    }
+
+    private void markDirty(int top, int bottom)
+    {
+        if(top <= bottom)
+        {
+            if(!isDirty())
+            {
+                dirtyTop = top;
+                dirtyBottom = bottom;
+            }
+            else
+            {
+                dirtyTop = Math.min(dirtyTop, top);
+                dirtyBottom = Math.max(dirtyBottom, bottom);
+            }
+        }
+    }
+
+    private long getBit(int column)
+    {
+        return 1L << (columns - 1 - column);
+    }
+
+    private long getColumnMask(int left, int right)
+    {
+        return ((1L << (right - left + 1)) - 1) << (columns - 1 - right);
+    }
+
+    /**
+     * Returns column of world x coordinate, clamped to mask.
+     */
+    private int getColumn(float x)
+    {
+        int column = (int) Math.floor((x - bounds.x) / pixelWidth);
+
+        return Math.max(0, Math.min(column, columns - 1));
+    }
+
+    /**
+     * Returns row of world y coordinate (row 0 is top), clamped to mask.
+     */
+    private int getRowAt(float y)
+    {
+        int row = rows - 1 - (int) Math.floor((y - bounds.y) / pixelHeight);
+
+        return Math.max(0, Math.min(row, rows - 1));
+    }
+}
@@ -0,0 +1,973 @@
+/*
+ * Copyright 2018 Gökhan Kanber
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.gokhankanber.spaceinvaders.model;
+
+import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.utils.Pool;
+import com.gokhankanber.spaceinvaders.profiler.Profiler;
+import com.gokhankanber.spaceinvaders.provider.Config;
+import com.gokhankanber.spaceinvaders.provider.IAudio;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+public class World
+{
+    private enum State
+    {
+        START,
+        LOADING,
+        READY,
+        PAUSE,
+        RESUME,
+        ENDING,
+        END
+    }
+
+    private static final State[] STATES = State.values();
+    private static final int SNAPSHOT_MAGIC = 0x53495753; // SIWS
+    private static final int SNAPSHOT_VERSION = 2;
+    private final int maxLevel = 9;
+    private final int groundHeight = 10;
+    private int difficulty = Config.DIFFICULTY_NORMAL;
+    private State state = State.LOADING;
+    private float stateTime;
+    private boolean resetLaserCannon;
+    private boolean checkGame;
+    private boolean resetWorld;
+    private boolean waitEnding;
+    private boolean gameOver;
+    private IAudio audio;
+    private Ground ground;
+    private List<Laser> lasers;
+    private List<Explosion> explosions;
+
+    // Pools to reuse lasers and explosions without allocation in game loop.
+    private final Pool<Laser> laserPool = new Pool<Laser>()
+    {
+        @Override
+        protected Laser newObject()
+        {
+            return new Laser(0, 0, 0, 0);
+        }
+    };
+
+    private final Pool<Explosion> explosionPool = new Pool<Explosion>()
+    {
+        @Override
+        protected Explosion newObject()
+        {
+            return new Explosion(0, 0, 0, 0);
+        }
+    };
+
+    // LaserCannon Properties
+    private LaserCannon laserCannon;
+    private final int laserCannonWidth = 32;
+    private final int laserCannonHeight = 16;
+    private final Vector2 laserCannonStartPoint = new Vector2((Config.WIDTH - laserCannonWidth) / 2, 32);
+
+    // Shield Properties
+    private List<Shield> shields;
+    private final int shieldNumber = 4;
+    private final int shieldWidth = 44;
+    private final int shieldHeight = 32;
+    private final int shieldSpace = 48;
+    private final Vector2 shieldStartPoint = new Vector2((Config.WIDTH - (4 * shieldWidth + 3 * shieldSpace)) / 2, laserCannonStartPoint.y + 2 * laserCannonHeight);
+
+    // CommandAlienShip Properties
+    private CommandAlienShip commandAlienShip;
+    private final int commandAlienShipPoints = 200;
+    private final int commandAlienShipWidth = 32;
+    private final int commandAlienShipHeight = 16;
+    private final float commandAlienShipStartPointY;
+
+    // Invader Properties
+    private InvaderFormation invaderFormation = new InvaderFormation();
+    private final int invaderRows;
+    private final int invaderColumns;
+    private final Vector2 invaderStartPoint;
+    private final int[] invaderLaserHeights = {14, 12, 14};
+    private ITargetingPolicy targetingPolicy = new RandomTargetingPolicy();
+    private float laserCreateTime;
+    private final long seed;
+    private final float height;
+    private final WorldRandom random;
+    private Profiler profiler = new Profiler();
+
+    public World(IAudio audio)
+    {
+        this(audio, 5, 11);
+    }
+
+    public World(IAudio audio, int invaderRows, int invaderColumns)
+    {
+        this(audio, invaderRows, invaderColumns, System.nanoTime());
+    }
+
+    /**
+     * Creates world with specified formation size.
+     * Formations larger than default are used for stress tests and benchmarks.
+     * @param audio for sounds.
+     * @param invaderRows number of invader rows.
+     * @param invaderColumns number of invader columns.
+     * @param seed for the random number generator of world (same seed and inputs replay the same game).
+     */
+    public World(IAudio audio, int invaderRows, int invaderColumns, long seed)
+    {
+        this(audio, invaderRows, invaderColumns, seed, Config.getHeight());
+    }
+
+    /**
+     * Creates world with specified height.
+     * All state of world belongs to the instance, so worlds of any height can run in one process.
+     * @param audio for sounds.
+     * @param invaderRows number of invader rows.
+     * @param invaderColumns number of invader columns.
+     * @param seed for the random number generator of world.
+     * @param height of world.
+     */
+    public World(IAudio audio, int invaderRows, int invaderColumns, long seed, float height)
+    {
+        this.audio = audio;
+        this.height = height;
+        commandAlienShipStartPointY = height - 8 - commandAlienShipHeight;
+        this.seed = seed;
+        random = new WorldRandom(seed);
+        this.invaderRows = invaderRows;
+        this.invaderColumns = invaderColumns;
+        invaderStartPoint = new Vector2((Config.WIDTH - invaderColumns * InvaderFormation.INVADER_MAX_WIDTH) / 2,
+                shieldStartPoint.y + shieldHeight + 60);
+
+        ground = new Ground(0, 0, Config.WIDTH, groundHeight);
+        invaderFormation.setListener(iWorld);
+        createLaserCannon();
+        createCommandAlienShip();
+        newLevel(true);
+    }
+
+    public long getSeed()
+    {
+        return seed;
+    }
+
+    public float getHeight()
+    {
+        return height;
+    }
+
+    public boolean isResetWorld()
+    {
+        return resetWorld;
+    }
+
+    public void setResetWorld(boolean resetWorld)
+    {
+        this.resetWorld = resetWorld;
+    }
+
+    public boolean isWaitEnding()
+    {
+        return waitEnding;
+    }
+
+    public void newLevel(boolean restart)
+    {
+        if(restart)
+        {
+            laserCannon.points = 0;
+            laserCannon.lives = 3;
+            laserCannon.level = 0;
+            laserCannon.alive();
+            gameOver = false;
+        }
+
+        if(laserCannon.level < maxLevel)
+        {
+            loading();
+            laserCannon.reset(laserCannonStartPoint.x, laserCannonStartPoint.y);
+            commandAlienShip.idle();
+            createShields();
+            createInvaders();
+            initLasers();
+            initExplosions();
+            resetWorld = true;
+        }
+        else
+        {
+            clearLasers();
+            clearExplosions();
+            ending(false);
+        }
+    }
+
+    public boolean isGameOver()
+    {
+        return gameOver;
+    }
+
+    public void loading()
+    {
+        stateTime = 0;
+        state = State.LOADING;
+    }
+
+    public void ready()
+    {
+        stateTime = 0;
+        state = State.READY;
+    }
+
+    /**
+     * Pauses world. Previous positions are set to current positions, so interpolated rendering does not move while paused.
+     */
+    public void pause()
+    {
+        state = State.PAUSE;
+        savePositions();
+
+        if(commandAlienShip.isFlying())
+        {
+            audio.stopCommandAlienShipSound();
+        }
+    }
+
+    public void resume()
+    {
+        stateTime = 0;
+        state = State.RESUME;
+
+        if(commandAlienShip.isFlying())
+        {
+            audio.playCommandAlienShipSound();
+        }
+    }
+
+    public void ending(boolean wait)
+    {
+        this.waitEnding = wait;
+        stateTime = 0;
+        state = State.ENDING;
+
+        if(commandAlienShip.isFlying())
+        {
+            audio.stopCommandAlienShipSound();
+        }
+    }
+
+    public void end()
+    {
+        stateTime = 0;
+        state = State.END;
+        savePositions(); // Stops interpolation in end menu.
+    }
+
+    public boolean isStart()
+    {
+        return state == State.START;
+    }
+
+    public boolean isLoading()
+    {
+        return state == State.LOADING;
+    }
+
+    public boolean isReady()
+    {
+        return state == State.READY;
+    }
+
+    public boolean isPaused()
+    {
+        return state == State.PAUSE;
+    }
+
+    public boolean isResumed()
+    {
+        return state == State.RESUME;
+    }
+
+    public boolean isEnding()
+    {
+        return state == State.ENDING;
+    }
+
+    public boolean isEnd()
+    {
+        return state == State.END;
+    }
+
+    private void createLaserCannon()
+    {
+        laserCannon = new LaserCannon(laserCannonStartPoint.x, laserCannonStartPoint.y, laserCannonWidth, laserCannonHeight);
+        laserCannon.setListener(iWorld);
+    }
+
+    private void createCommandAlienShip()
+    {
+        commandAlienShip = new CommandAlienShip(0, commandAlienShipStartPointY, commandAlienShipWidth, commandAlienShipHeight);
+        commandAlienShip.setListener(iWorld);
+    }
+
+    private void createShields()
+    {
+        if(shields == null)
+        {
+            shields = new ArrayList<>();
+        }
+        else
+        {
+            shields.clear();
+        }
+
+        for(int i = 0; i < shieldNumber; i++)
+        {
+            Shield shield = new Shield(shieldStartPoint.x + i * (shieldWidth + shieldSpace), shieldStartPoint.y, shieldWidth, shieldHeight);
+            shields.add(shield);
+        }
+    }
+
+    private void createInvaders()
+    {
+        invaderFormation.create(invaderRows, invaderColumns, invaderStartPoint.x, invaderStartPoint.y);
+    }
+
+    private void initLasers()
+    {
+        if(lasers == null)
+        {
+            lasers = new ArrayList<>();
+        }
+        else
+        {
+            clearLasers();
+        }
+    }
+
+    private void initExplosions()
+    {
+        if(explosions == null)
+        {
+            explosions = new ArrayList<>();
+        }
+        else
+        {
+            clearExplosions();
+        }
+    }
+
+    private void clearLasers()
+    {
+        int size = lasers.size();
+
+        for(int i = 0; i < size; i++)
+        {
+            laserPool.free(lasers.get(i));
+        }
+
+        lasers.clear();
+    }
+
+    private void clearExplosions()
+    {
+        int size = explosions.size();
+
+        for(int i = 0; i < size; i++)
+        {
+            explosionPool.free(explosions.get(i));
+        }
+
+        explosions.clear();
+    }
+
+    private Laser obtainLaser(float x, float y, float width, float height)
+    {
+        Laser laser = laserPool.obtain();
+        laser.init(x, y, width, height);
+
+        return laser;
+    }
+
+    public Pool<Laser> getLaserPool()
+    {
+        return laserPool;
+    }
+
+    public Pool<Explosion> getExplosionPool()
+    {
+        return explosionPool;
+    }
+
+    public LaserCannon getLaserCannon()
+    {
+        return laserCannon;
+    }
+
+    public Ground getGround()
+    {
+        return ground;
+    }
+
+    public List<Shield> getShields()
+    {
+        return shields;
+    }
+
+    public InvaderFormation getInvaderFormation()
+    {
+        return invaderFormation;
+    }
+
+    public Profiler getProfiler()
+    {
+        return profiler;
+    }
+
+    public void setProfiler(Profiler profiler)
+    {
+        this.profiler = profiler;
+    }
+
+    public void setTargetingPolicy(ITargetingPolicy targetingPolicy)
+    {
+        this.targetingPolicy = targetingPolicy;
+    }
+
+    public List<Laser> getLasers()
+    {
+        return lasers;
+    }
+
+    public List<Explosion> getExplosions()
+    {
+        return explosions;
+    }
+
+    public CommandAlienShip getCommandAlienShip()
+    {
+        return commandAlienShip;
+    }
+
+    public void update(float delta)
+    {
+        profiler.begin(Profiler.UPDATE);
+        savePositions();
+
+        if(isResumed())
+        {
+            laserCannon.update(delta);
+
+            if(laserCannon.isAlive())
+            {
+                updateInvaders(delta);
+                profiler.begin(Profiler.COMMAND_ALIEN_SHIP);
+                commandAlienShip.update(delta);
+                profiler.end(Profiler.COMMAND_ALIEN_SHIP);
+                updateLasers(delta);
+                updateExplosions(delta);
+
+                wait(delta, laserCreateTime);
+
+                if(stateTime == 0 && invaderFormation.size() > 0)
+                {
+                    createInvaderLaser();
+                }
+
+                resetLaserCannon();
+                checkGame();
+            }
+        }
+        else if(isLoading())
+        {
+            loadInvaders();
+        }
+        else if(isReady())
+        {
+            // Wait for 3 seconds on game start or touch to start.
+            wait(delta, 3);
+
+            if(stateTime == 0)
+            {
+                resume();
+            }
+        }
+        else if(isEnding())
+        {
+            wait(delta, 1);
+
+            if(stateTime == 0)
+            {
+                waitEnding = false;
+            }
+        }
+
+        profiler.end(Profiler.UPDATE);
+    }
+
+    private void savePositions()
+    {
+        commandAlienShip.savePosition();
+
+        int size = lasers.size();
+
+        for(int i = 0; i < size; i++)
+        {
+            lasers.get(i).savePosition();
+        }
+    }
+
+    /**
+     * Shows one more invader per update, and sets ready state after all invaders are visible.
+     */
+    private void loadInvaders()
+    {
+        if(!invaderFormation.showNext())
+        {
+            ready();
+        }
+    }
+
+    private void updateInvaders(float delta)
+    {
+        profiler.begin(Profiler.INVADERS);
+        invaderFormation.update(delta);
+        profiler.end(Profiler.INVADERS);
+    }
+
+    private void updateLasers(float delta)
+    {
+        profiler.begin(Profiler.LASERS);
+
+        for(int i = 0; i < lasers.size(); i++)
+        {
+            Laser laser = lasers.get(i);
+            laser.update(delta);
+
+            if(laser.isExploding())
+            {
+                lasers.remove(i--);
+                laserPool.free(laser);
+            }
+        }
+
+        profiler.end(Profiler.LASERS);
+    }
+
+    private void updateExplosions(float delta)
+    {
+        profiler.begin(Profiler.EXPLOSIONS);
+
+        for(int i = 0; i < explosions.size(); i++)
+        {
+            Explosion explosion = explosions.get(i);
+            explosion.update(delta);
+
+            if(explosion.isEnd())
+            {
+                explosions.remove(i--);
+                explosionPool.free(explosion);
+            }
+        }
+
+        profiler.end(Profiler.EXPLOSIONS);
+    }
+
+    /**
+     * Fires laser of laser cannon if there is no laser of laser cannon in world.
+     * @return true if laser is created.
+     */
+    public boolean createLaser()
+    {
+        boolean hasLaser = false;
+        int size = lasers.size();
+
+        for(int i = 0; i < size; i++)
+        {
+            if(lasers.get(i).isSourceLaserCannon())
+            {
+                hasLaser = true;
+                break;
+            }
+        }
+
+        if(!hasLaser)
+        {
+            audio.playLaserSound();
+            Laser laser = obtainLaser(laserCannon.getX() + laserCannon.getWidth() / 2, laserCannon.getY() + laserCannon.getHeight(), 2, 12);
+            laser.setSourceLaserCannon();
+            laser.setListener(iWorld);
+            lasers.add(laser);
+        }
+
+        return !hasLaser;
+    }
+
+    private void createInvaderLaser()
+    {
+        if(laserCreateTime > 0)
+        {
+            int slot = targetingPolicy.select(invaderFormation, laserCannon, random);
+            int type = random.nextInt(3);
+            Laser laser = obtainLaser(invaderFormation.getX(slot), invaderFormation.getY(slot), 6, invaderLaserHeights[type]);
+            laser.setListener(iWorld);
+            laser.setType(type);
+            lasers.add(laser);
+        }
+
+        // set next laser create time
+        laserCreateTime = random.nextInt(3) + random.nextFloat();
+    }
+
+    private void resetLaserCannon()
+    {
+        if(resetLaserCannon)
+        {
+            resetLaserCannon = false;
+
+            clearLasers();
+            clearExplosions();
+        }
+    }
+
+    private void checkGame()
+    {
+        if(checkGame)
+        {
+            checkGame = false;
+
+            if(invaderFormation.size() == 0)
+            {
+                newLevel(false);
+            }
+        }
+    }
+
+    /**
+     * Returns number of bytes of a snapshot of current state.
+     * @return size in bytes.
+     */
+    public int getSnapshotSize()
+    {
+        // Header, random number generator, and world state.
+        int size = 2 * 4 + 8 + 1 + 3 * 4 + 4;
+        size += laserCannon.getSnapshotSize() + commandAlienShip.getSnapshotSize() + invaderFormation.getSnapshotSize();
+        // Model counts and end marker.
+        size += 4 * 4;
+
+        for(int i = 0; i < shields.size(); i++)
+        {
+            size += shields.get(i).getSnapshotSize();
+        }
+
+        for(int i = 0; i < lasers.size(); i++)
+        {
+            size += lasers.get(i).getSnapshotSize();
+        }
+
+        for(int i = 0; i < explosions.size(); i++)
+        {
+            size += explosions.get(i).getSnapshotSize();
+        }
+
+        return size;
+    }
+
+    /**
+     * Writes a versioned binary snapshot of simulation state (world state, random number generator, and models).
+     * Writes only primitives to buffer, so it can run every step without allocation.
+     * Renderer flag resetWorld is not written, restore always sets it to redraw scoreboard.
+     * @param buffer with at least getSnapshotSize() bytes remaining.
+     */
+    public void save(ByteBuffer buffer)
+    {
+        buffer.putInt(SNAPSHOT_MAGIC).putInt(SNAPSHOT_VERSION);
+        buffer.putLong(random.getState());
+        buffer.put((byte) state.ordinal()).putFloat(stateTime).putInt(difficulty).putFloat(laserCreateTime);
+        buffer.put((byte) (resetLaserCannon ? 1 : 0)).put((byte) (checkGame ? 1 : 0));
+        buffer.put((byte) (waitEnding ? 1 : 0)).put((byte) (gameOver ? 1 : 0));
+
+        laserCannon.save(buffer);
+        commandAlienShip.save(buffer);
+        invaderFormation.save(buffer);
+
+        int size = shields.size();
+        buffer.putInt(size);
+
+        for(int i = 0; i < size; i++)
+        {
+            shields.get(i).save(buffer);
+        }
+
+        size = lasers.size();
+        buffer.putInt(size);
+
+        for(int i = 0; i < size; i++)
+        {
+            lasers.get(i).save(buffer);
+        }
+
+        size = explosions.size();
+        buffer.putInt(size);
+
+        for(int i = 0; i < size; i++)
+        {
+            explosions.get(i).save(buffer);
+        }
+
+        buffer.putInt(SNAPSHOT_MAGIC);
+    }
+
+    /**
+     * Restores simulation state from a snapshot written by save.
+     * Lasers and explosions are obtained from pools, and scoreboard and shields are redrawn.
+     * @param buffer positioned at the start of snapshot.
+     */
+    public void restore(ByteBuffer buffer)
+    {
+        if(buffer.getInt() != SNAPSHOT_MAGIC)
+        {
+            throw new IllegalArgumentException("Not a world snapshot.");
+        }
+
+        int version = buffer.getInt();
+
+        if(version != SNAPSHOT_VERSION)
+        {
+            throw new IllegalArgumentException("Unsupported world snapshot version: " + version);
+        }
+
+        random.setState(buffer.getLong());
+        state = STATES[buffer.get()];
+        stateTime = buffer.getFloat();
+        difficulty = buffer.getInt();
+        laserCreateTime = buffer.getFloat();
+        resetLaserCannon = buffer.get() != 0;
+        checkGame = buffer.get() != 0;
+        waitEnding = buffer.get() != 0;
+        gameOver = buffer.get() != 0;
+
+        laserCannon.restore(buffer);
+        commandAlienShip.restore(buffer);
+        invaderFormation.restore(buffer);
+
+        int size = buffer.getInt();
+
+        if(size != shields.size())
+        {
+            throw new IllegalArgumentException("Snapshot has " + size + " shields.");
+        }
+
+        for(int i = 0; i < size; i++)
+        {
+            shields.get(i).restore(buffer);
+        }
+
+        clearLasers();
+        size = buffer.getInt();
+
+        for(int i = 0; i < size; i++)
+        {
+            Laser laser = laserPool.obtain();
+            laser.restore(buffer);
+            laser.setListener(iWorld);
+            lasers.add(laser);
+        }
+
+        clearExplosions();
+        size = buffer.getInt();
+
+        for(int i = 0; i < size; i++)
+        {
+            Explosion explosion = explosionPool.obtain();
+            explosion.restore(buffer);
+            explosion.setListener(iWorld);
+            explosions.add(explosion);
+        }
+
+        if(buffer.getInt() != SNAPSHOT_MAGIC)
+        {
+            throw new IllegalArgumentException("World snapshot is corrupted.");
+        }
+
+        savePositions();
+
+        // Renderer reads changed scoreboard.
+        resetWorld = true;
+    }
+
+    public void wait(float delta, float waitTime)
+    {
+        if(stateTime >= waitTime)
+        {
+            stateTime = 0;
+        }
+        else
+        {
+            stateTime += delta;
+        }
+    }
+
+    // World interface instance for models.
+    private IWorld iWorld = new IWorld()
+    {
+        @Override
+        public InvaderFormation getInvaderFormation()
+        {
+            return invaderFormation;
+        }
+
+        @Override
+        public List<Shield> getShields()
+        {
+            return shields;
+        }
+
+        @Override
+        public CommandAlienShip getCommandAlienShip()
+        {
+            return commandAlienShip;
+        }
+
+        @Override
+        public LaserCannon getLaserCannon()
+        {
+            return laserCannon;
+        }
+
+        @Override
+        public Ground getGround()
+        {
+            return ground;
+        }
+
+        @Override
+        public float getHeight()
+        {
+            return height;
+        }
+
+        @Override
+        public float getShieldBorder()
+        {
+            return shieldStartPoint.y + shieldHeight;
+        }
+
+        @Override
+        public Random getRandom()
+        {
+            return random;
+        }
+
+        @Override
+        public void removeInvader(int slot)
+        {
+            laserCannon.points += invaderFormation.remove(slot);
+
+            if(invaderFormation.size() > 0)
+            {
+                invaderFormation.setSpeedRatio(1 + (difficulty / invaderFormation.size()) + (laserCannon.level / Config.MAX_LEVEL));
+            }
+
+            resetWorld = true;
+        }
+
+        @Override
+        public void removeCommandAlienShip()
+        {
+            laserCannon.points += commandAlienShipPoints;
+            commandAlienShip.idle();
+        }
+
+        @Override
+        public void setResetLaserCannon()
+        {
+            resetLaserCannon = true;
+        }
+
+        @Override
+        public void setCheckGame()
+        {
+            checkGame = true;
+        }
+
+        @Override
+        public void endGame(boolean wait)
+        {
+            gameOver = true;
+            ending(wait);
+        }
+
+        @Override
+        public void setResetWorld(boolean resetWorld)
+        {
+            World.this.setResetWorld(resetWorld);
+        }
+
+        @Override
+        public Explosion obtainExplosion(float x, float y, float width, float height)
+        {
+            Explosion explosion = explosionPool.obtain();
+            explosion.init(x, y, width, height);
+            explosion.setListener(iWorld);
+
+            return explosion;
+        }
+
+        @Override
+        public void addExplosion(Explosion explosion)
+        {
+            explosions.add(explosion);
+        }
+
+        @Override
+        public void playLaserCannonSound()
+        {
+            audio.playLaserCannonSound();
+        }
+
+        @Override
+        public void playExplosionSound()
+        {
+            audio.playExplosionSound();
+        }
+
+        @Override
+        public void playInvaderMoveOneSound()
+        {
+            audio.playInvaderMoveOneSound();
+        }
+
+        @Override
+        public void playInvaderMoveTwoSound()
+        {
+            audio.playInvaderMoveTwoSound();
+        }
+
+        @Override
+        public void playCommandAlienShipSound()
+        {
+            audio.playCommandAlienShipSound();
+        }
+
+        @Override
+        public void stopCommandAlienShipSound()
+        {
+            audio.stopCommandAlienShipSound();
+        }
+    };
+}
@@ -0,0 +1,63 @@
+/*
+ * Copyright 2018 Gökhan Kanber
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.gokhankanber.spaceinvaders.model;
+
+import java.util.Random;
+
+/**
+ * Random number generator of world with the same sequence as java.util.Random,
+ * and a readable state for world snapshots.
+ */
+class WorldRandom extends Random
+{
+    private static final long serialVersionUID = 1L;
+    private static final long MULTIPLIER = 0x5DEECE66DL;
+    private static final long ADDEND = 0xBL;
+    private static final long MASK = (1L << 48) - 1;
+
+    private long state;
+
+    WorldRandom(long seed)
+    {
+        super(seed);
+    }
+
+    @Override
+    public synchronized void setSeed(long seed)
+    {
+        super.setSeed(seed);
+        state = (seed ^ MULTIPLIER) & MASK;
+    }
+
+    @Override
+    protected int next(int bits)
+    {
+        state = (state * MULTIPLIER + ADDEND) & MASK;
+
+        return (int) (state >>> (48 - bits));
+    }
+
+    public long getState()
+    {
+        return state;
+    }
+
+    public void setState(long state)
+    {
+        this.state = state & MASK;
+    }
+}
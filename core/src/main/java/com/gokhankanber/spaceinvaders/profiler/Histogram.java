@@ -0,0 +1,110 @@
+/*
+ * Copyright 2018 Gökhan Kanber
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.gokhankanber.spaceinvaders.profiler;
+
+import java.util.Arrays;
+
+/**
+ * Rolling histogram of the last samples of a section (ring buffer of nanoseconds).
+ * Percentiles are calculated on update by sorting a copy of samples, so adding a sample is a single store.
+ */
+public class Histogram
+{
+    private final long[] samples;
+    private final long[] sorted;
+    private int next;
+    private int count;
+    private long p50;
+    private long p95;
+    private long p99;
+
+    /**
+     * @param capacity number of the last samples kept.
+     */
+    public Histogram(int capacity)
+    {
+        samples = new long[capacity];
+        sorted = new long[capacity];
+    }
+
+    public void add(long time)
+    {
+        samples[next] = time;
+        next = (next + 1) % samples.length;
+
+        if(count < samples.length)
+        {
+            count++;
+        }
+    }
+
+    /**
+     * Calculates percentiles of samples.
+     */
+    public void update()
+    {
+        if(count == 0)
+        {
+            p50 = p95 = p99 = 0;
+
+            return;
+        }
+
+        System.arraycopy(samples, 0, sorted, 0, count);
+        Arrays.sort(sorted, 0, count);
+        p50 = getPercentile(50);
+        p95 = getPercentile(95);
+        p99 = getPercentile(99);
+    }
+
+    public void clear()
+    {
+        next = 0;
+        count = 0;
+        p50 = p95 = p99 = 0;
+    }
+
+    public int getCount()
+    {
+        return count;
+    }
+
+    public long getP50()
+    {
+        return p50;
+    }
+
+    public long getP95()
+    {
+        return p95;
+    }
+
+    public long getP99()
+    {
+        return p99;
+    }
+
+    /**
+     * Returns nearest rank percentile of sorted samples.
+     */
+    private long getPercentile(int percent)
+    {
+        int rank = (percent * count + 99) / 100;
+
+        return sorted[Math.max(rank, 1) - 1];
+    }
+}
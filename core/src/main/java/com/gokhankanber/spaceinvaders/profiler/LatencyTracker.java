@@ -0,0 +1,112 @@
+/*
+ * Copyright 2018 Gökhan Kanber
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.gokhankanber.spaceinvaders.profiler;
+
+/**
+ * Measures input to render latency: time from an input event to the end of the first frame rendered after
+ * input changes world (a laser is fired, or laser cannon is moved).
+ * Latency of the earliest input is measured when more inputs of the same kind are applied before a frame.
+ */
+public class LatencyTracker
+{
+    // Kinds of input
+    public static final int FIRE = 0;
+    public static final int MOVE = 1;
+    public static final int KIND_COUNT = 2;
+
+    private static final String[] NAMES = {"FIRE", "MOVE"};
+
+    private final Histogram[] histograms = new Histogram[KIND_COUNT];
+    private final long[] pendingTimes = new long[KIND_COUNT];
+    private final boolean[] pending = new boolean[KIND_COUNT];
+    private long inputTime;
+
+    /**
+     * @param capacity number of the last latencies kept for each kind.
+     */
+    public LatencyTracker(int capacity)
+    {
+        for(int i = 0; i < KIND_COUNT; i++)
+        {
+            histograms[i] = new Histogram(capacity);
+        }
+    }
+
+    /**
+     * Sets time of the input event being applied.
+     * @param inputTime in nanoseconds.
+     */
+    public void setInputTime(long inputTime)
+    {
+        this.inputTime = inputTime;
+    }
+
+    public long getInputTime()
+    {
+        return inputTime;
+    }
+
+    /**
+     * Marks that current input event changed world.
+     * @param kind of input.
+     */
+    public void applied(int kind)
+    {
+        if(!pending[kind])
+        {
+            pending[kind] = true;
+            pendingTimes[kind] = inputTime;
+        }
+    }
+
+    /**
+     * Adds latencies of applied inputs after a frame is rendered.
+     * @param time of the end of frame in nanoseconds.
+     */
+    public void rendered(long time)
+    {
+        for(int i = 0; i < KIND_COUNT; i++)
+        {
+            if(pending[i])
+            {
+                pending[i] = false;
+                histograms[i].add(time - pendingTimes[i]);
+            }
+        }
+    }
+
+    /**
+     * Calculates percentiles of all kinds.
+     */
+    public void update()
+    {
+        for(int i = 0; i < KIND_COUNT; i++)
+        {
+            histograms[i].update();
+        }
+    }
+
+    public Histogram getHistogram(int kind)
+    {
+        return histograms[kind];
+    }
+
+    public static String getName(int kind)
+    {
+        return NAMES[kind];
+    }
+}
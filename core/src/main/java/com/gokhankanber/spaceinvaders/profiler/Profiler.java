@@ -0,0 +1,160 @@
+/*
+ * Copyright 2018 Gökhan Kanber
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.gokhankanber.spaceinvaders.profiler;
+
+import java.lang.ref.WeakReference;
+
+/**
+ * Measures frame time and time of subsystems in rolling histograms.
+ * Begin and end calls only check a flag while profiler is disabled.
+ * Garbage collections are detected by a weakly referenced object, which is cleared by the next collection.
+ */
+public class Profiler
+{
+    // Sections
+    public static final int FRAME = 0;
+    public static final int UPDATE = 1;
+    public static final int INVADERS = 2;
+    public static final int LASERS = 3;
+    public static final int EXPLOSIONS = 4;
+    public static final int COMMAND_ALIEN_SHIP = 5;
+    public static final int RENDER = 6;
+    public static final int BOARD = 7;
+    public static final int BATCH = 8;
+    public static final int CACHE = 9;
+    public static final int SHIELDS = 10;
+    public static final int SECTION_COUNT = 11;
+
+    private static final String[] NAMES = {"FRAME", "UPDATE", "INVADERS", "LASERS", "EXPLOSIONS", "SHIP",
+            "RENDER", "BOARD", "BATCH", "CACHE", "SHIELDS"};
+    private static final int SAMPLES = 240;
+
+    private boolean enabled;
+    private final long[] starts = new long[SECTION_COUNT];
+    private final Histogram[] histograms = new Histogram[SECTION_COUNT];
+    private long frameTime;
+    private WeakReference<Object> gcSentinel = new WeakReference<>(new Object());
+    private int gcCount;
+
+    public Profiler()
+    {
+        for(int i = 0; i < SECTION_COUNT; i++)
+        {
+            histograms[i] = new Histogram(SAMPLES);
+        }
+    }
+
+    public boolean isEnabled()
+    {
+        return enabled;
+    }
+
+    /**
+     * Enables or disables profiler. Samples are cleared when profiler is enabled.
+     * @param enabled is true to measure sections.
+     */
+    public void setEnabled(boolean enabled)
+    {
+        if(enabled && !this.enabled)
+        {
+            for(int i = 0; i < SECTION_COUNT; i++)
+            {
+                histograms[i].clear();
+            }
+
+            frameTime = 0;
+            gcCount = 0;
+        }
+
+        this.enabled = enabled;
+    }
+
+    public void toggle()
+    {
+        setEnabled(!enabled);
+    }
+
+    public void begin(int section)
+    {
+        if(enabled)
+        {
+            starts[section] = System.nanoTime();
+        }
+    }
+
+    public void end(int section)
+    {
+        if(enabled)
+        {
+            histograms[section].add(System.nanoTime() - starts[section]);
+        }
+    }
+
+    /**
+     * Adds time between frames to frame histogram, and checks garbage collection. Call once per frame.
+     */
+    public void frame()
+    {
+        if(enabled)
+        {
+            long time = System.nanoTime();
+
+            if(frameTime > 0)
+            {
+                histograms[FRAME].add(time - frameTime);
+            }
+
+            frameTime = time;
+
+            if(gcSentinel.get() == null)
+            {
+                gcCount++;
+                gcSentinel = new WeakReference<>(new Object());
+            }
+        }
+    }
+
+    /**
+     * Calculates percentiles of all sections.
+     */
+    public void update()
+    {
+        for(int i = 0; i < SECTION_COUNT; i++)
+        {
+            histograms[i].update();
+        }
+    }
+
+    public Histogram getHistogram(int section)
+    {
+        return histograms[section];
+    }
+
+    public static String getName(int section)
+    {
+        return NAMES[section];
+    }
+
+    /**
+     * Returns number of garbage collections detected since profiler is enabled.
+     * @return count.
+     */
+    public int getGcCount()
+    {
+        return gcCount;
+    }
+}
@@ -0,0 +1,91 @@
+/*
+ * Copyright 2018 Gökhan Kanber
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.gokhankanber.spaceinvaders.profiler;
+
+/**
+ * Reports drift of long runs: frame time percentiles, heap, and resource counters of each report interval,
+ * compared with the first report. Steadily growing values show slowdowns and leaks.
+ */
+public class SoakMonitor
+{
+    private final Histogram frameTimes;
+    private final String[] counterNames;
+    private final long[] firstCounters;
+    private long firstP50;
+    private long firstHeap;
+    private int reportCount;
+    private final StringBuilder report = new StringBuilder();
+
+    /**
+     * @param capacity number of the last frame times kept in an interval.
+     * @param counterNames names of resource counters in reports.
+     */
+    public SoakMonitor(int capacity, String... counterNames)
+    {
+        frameTimes = new Histogram(capacity);
+        this.counterNames = counterNames;
+        firstCounters = new long[counterNames.length];
+    }
+
+    /**
+     * @param time of frame or step in nanoseconds.
+     */
+    public void add(long time)
+    {
+        frameTimes.add(time);
+    }
+
+    /**
+     * Returns report of frame times since the last report, and current heap and counter values.
+     * @param heap bytes used.
+     * @param counters values in order of counter names.
+     * @return report line.
+     */
+    public String report(long heap, long... counters)
+    {
+        frameTimes.update();
+
+        if(reportCount++ == 0)
+        {
+            firstP50 = frameTimes.getP50();
+            firstHeap = heap;
+            System.arraycopy(counters, 0, firstCounters, 0, counters.length);
+        }
+
+        report.setLength(0);
+        report.append("frames: ").append(frameTimes.getCount())
+                .append(", p50: ").append(frameTimes.getP50() / 1000).append(" us (drift ")
+                .append(firstP50 == 0 ? 0 : (frameTimes.getP50() - firstP50) * 100 / firstP50).append("%)")
+                .append(", p99: ").append(frameTimes.getP99() / 1000).append(" us")
+                .append(", heap: ").append(heap / 1024).append(" KB (").append(sign((heap - firstHeap) / 1024)).append(" KB)");
+
+        for(int i = 0; i < counterNames.length; i++)
+        {
+            report.append(", ").append(counterNames[i]).append(": ").append(counters[i])
+                    .append(" (").append(sign(counters[i] - firstCounters[i])).append(")");
+        }
+
+        frameTimes.clear();
+
+        return report.toString();
+    }
+
+    private static String sign(long value)
+    {
+        return value > 0 ? "+" + value : String.valueOf(value);
+    }
+}
@@ -16,8 +16,6 @@
 
 package com.gokhankanber.spaceinvaders.provider;
 
-import com.badlogic.gdx.Gdx;
-
 public class Config
 {
     public static final float WIDTH = 640;
@@ -31,10 +29,42 @@ public class Config
     public static final int MAX_LEVEL = 9;
     public static final int MIN_TIME = 20;
     public static final int MAX_TIME = 30;
+    public static final float HEADLESS_HEIGHT = 360;
+    public static final int STEPS_PER_SECOND = 60;
+    public static final int MAX_STEPS_PER_FRAME = 5;
+    public static final String RECORDING_FILE = "session.rec";
+
+    private static IDisplay display;
+
+    public static void setDisplay(IDisplay display)
+    {
+        Config.display = display;
+    }
 
+    /**
+     * Returns world height for the aspect ratio of display.
+     * Uses a fixed height when there is no display (headless simulation).
+     * @return world height.
+     */
     public static float getHeight()
     {
-        float ratio = (float) Gdx.graphics.getHeight() / Gdx.graphics.getWidth();
+        if(display == null)
+        {
+            return HEADLESS_HEIGHT;
+        }
+
+        return getHeight(display.getWidth(), display.getHeight());
+    }
+
+    /**
+     * Returns world height for the aspect ratio of specified display size.
+     * @param displayWidth in pixels.
+     * @param displayHeight in pixels.
+     * @return world height.
+     */
+    public static float getHeight(int displayWidth, int displayHeight)
+    {
+        float ratio = (float) displayHeight / displayWidth;
 
         return WIDTH * ratio;
     }
@@ -0,0 +1,39 @@
+/*
+ * Copyright 2018 Gökhan Kanber
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.gokhankanber.spaceinvaders.provider;
+
+/**
+ * Splits numbers into digits for scoreboard.
+ */
+public class Digits
+{
+    /**
+     * Returns a digit of number without creating strings.
+     * @param number is a non-negative number.
+     * @param position of digit from the least significant one (0 is ones digit).
+     * @return digit, or 0 for positions over the length of number (leading zeros).
+     */
+    public static int getDigit(int number, int position)
+    {
+        for(int i = 0; i < position; i++)
+        {
+            number /= 10;
+        }
+
+        return number % 10;
+    }
+}
@@ -14,12 +14,13 @@
  * limitations under the License.
  */
 
-package com.gokhankanber.spaceinvaders.model;
+package com.gokhankanber.spaceinvaders.provider;
 
-public class Shield extends Model
+/**
+ * Display interface for world size calculations.
+ */
+public interface IDisplay
 {
-    public Shield(float x, float y, float width, float height)
-    {
-        super(x, y, width, height);
-    }
+    int getWidth();
+    int getHeight();
 }
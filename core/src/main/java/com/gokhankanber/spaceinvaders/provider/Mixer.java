@@ -0,0 +1,295 @@
+/*
+ * Copyright 2018 Gökhan Kanber
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.gokhankanber.spaceinvaders.provider;
+
+/**
+ * Software mixer of 8-bit PCM tracks with a fixed number of voices.
+ * Game thread adds play and stop commands to a single producer, single consumer ring buffer,
+ * and audio thread applies them and sums active voices into an output buffer.
+ * Tracks are signed 8-bit samples (as created by Synthesizer). Voices are summed in signed domain, scaled by
+ * a fixed headroom (so gain of a voice does not change when other voices start or stop), clamped,
+ * and converted once to unsigned 8-bit output.
+ * If all voices are active, the oldest voice is replaced, preferring voices that do not loop.
+ */
+public class Mixer
+{
+    private static final byte PLAY = 0;
+    private static final byte LOOP = 1;
+    private static final byte STOP = 2;
+    static final int HEADROOM = 2; // Two full scale voices do not clip.
+
+    private final byte[][] tracks;
+
+    // Voices
+    private final int[] voiceTracks;
+    private final int[] voicePositions;
+    private final boolean[] voiceLoops;
+    private final long[] voiceStarts;
+    private long playCount;
+    private int activeCount;
+    private int[] sums = new int[0];
+
+    // Commands
+    private final int commandMask;
+    private final byte[] commandTypes;
+    private final int[] commandTracks;
+    private volatile long head;
+    private volatile long tail;
+
+    /**
+     * @param tracks PCM samples of each track.
+     * @param voiceCount maximum number of sounds played at the same time.
+     * @param commandCapacity size of command buffer, a power of two.
+     */
+    public Mixer(byte[][] tracks, int voiceCount, int commandCapacity)
+    {
+        if(voiceCount <= 0 || commandCapacity <= 0 || (commandCapacity & (commandCapacity - 1)) != 0)
+        {
+            throw new IllegalArgumentException("Voice count must be positive and command capacity a power of two.");
+        }
+
+        this.tracks = tracks;
+        voiceTracks = new int[voiceCount];
+        voicePositions = new int[voiceCount];
+        voiceLoops = new boolean[voiceCount];
+        voiceStarts = new long[voiceCount];
+        commandMask = commandCapacity - 1;
+        commandTypes = new byte[commandCapacity];
+        commandTracks = new int[commandCapacity];
+
+        for(int i = 0; i < voiceCount; i++)
+        {
+            voiceTracks[i] = -1;
+        }
+    }
+
+    /**
+     * Plays track from start. A looping track replaces its playing voices.
+     * @param track index.
+     * @param loop is true to repeat track until it is stopped.
+     * @return false if command buffer is full.
+     */
+    public boolean play(int track, boolean loop)
+    {
+        return add(loop ? LOOP : PLAY, track);
+    }
+
+    /**
+     * Stops all voices of track.
+     * @param track index.
+     * @return false if command buffer is full.
+     */
+    public boolean stop(int track)
+    {
+        return add(STOP, track);
+    }
+
+    private boolean add(byte type, int track)
+    {
+        long t = tail;
+
+        if(t - head > commandMask)
+        {
+            return false;
+        }
+
+        int index = (int) t & commandMask;
+        commandTypes[index] = type;
+        commandTracks[index] = track;
+        tail = t + 1;
+
+        return true;
+    }
+
+    /**
+     * Applies commands, and writes sum of active voices to output buffer from audio thread.
+     * @param out buffer of unsigned 8-bit samples (as played by 8-bit PCM output).
+     * @param offset of the first sample.
+     * @param length number of samples.
+     * @return number of active voices.
+     */
+    public int mix(byte[] out, int offset, int length)
+    {
+        applyCommands();
+
+        if(sums.length < length)
+        {
+            sums = new int[length];
+        }
+
+        for(int i = 0; i < length; i++)
+        {
+            sums[i] = 0;
+        }
+
+        for(int voice = 0; voice < voiceTracks.length; voice++)
+        {
+            if(voiceTracks[voice] >= 0)
+            {
+                mixVoice(voice, length);
+            }
+        }
+
+        for(int i = 0; i < length; i++)
+        {
+            int sum = sums[i] / HEADROOM;
+
+            if(sum > 127)
+            {
+                sum = 127;
+            }
+            else if(sum < -128)
+            {
+                sum = -128;
+            }
+
+            out[offset + i] = (byte) (sum + 128);
+        }
+
+        return activeCount;
+    }
+
+    public int getActiveCount()
+    {
+        return activeCount;
+    }
+
+    private void mixVoice(int voice, int length)
+    {
+        byte[] samples = tracks[voiceTracks[voice]];
+        int position = voicePositions[voice];
+        int i = 0;
+
+        while(i < length)
+        {
+            int count = Math.min(length - i, samples.length - position);
+
+            for(int j = 0; j < count; j++)
+            {
+                sums[i + j] += samples[position + j];
+            }
+
+            i += count;
+            position += count;
+
+            if(position == samples.length)
+            {
+                if(!voiceLoops[voice])
+                {
+                    release(voice);
+
+                    return;
+                }
+
+                position = 0;
+            }
+        }
+
+        voicePositions[voice] = position;
+    }
+
+    private void applyCommands()
+    {
+        long h = head;
+        long t = tail;
+
+        for(long i = h; i < t; i++)
+        {
+            int index = (int) i & commandMask;
+            int track = commandTracks[index];
+
+            switch(commandTypes[index])
+            {
+                case PLAY:
+                    start(track, false);
+                    break;
+                case LOOP:
+                    stopVoices(track);
+                    start(track, true);
+                    break;
+                case STOP:
+                    stopVoices(track);
+                    break;
+            }
+        }
+
+        head = t;
+    }
+
+    private void start(int track, boolean loop)
+    {
+        int voice = getFreeVoice();
+
+        if(voiceTracks[voice] < 0)
+        {
+            activeCount++;
+        }
+
+        voiceTracks[voice] = track;
+        voicePositions[voice] = 0;
+        voiceLoops[voice] = loop;
+        voiceStarts[voice] = playCount++;
+    }
+
+    /**
+     * Returns a free voice, or the oldest voice to replace (voices that do not loop first).
+     */
+    private int getFreeVoice()
+    {
+        int oldest = -1;
+        int oldestLoop = -1;
+
+        for(int voice = 0; voice < voiceTracks.length; voice++)
+        {
+            if(voiceTracks[voice] < 0)
+            {
+                return voice;
+            }
+
+            if(voiceLoops[voice])
+            {
+                if(oldestLoop < 0 || voiceStarts[voice] < voiceStarts[oldestLoop])
+                {
+                    oldestLoop = voice;
+                }
+            }
+            else if(oldest < 0 || voiceStarts[voice] < voiceStarts[oldest])
+            {
+                oldest = voice;
+            }
+        }
+
+        return oldest >= 0 ? oldest : oldestLoop;
+    }
+
+    private void stopVoices(int track)
+    {
+        for(int voice = 0; voice < voiceTracks.length; voice++)
+        {
+            if(voiceTracks[voice] == track)
+            {
+                release(voice);
+            }
+        }
+    }
+
+    private void release(int voice)
+    {
+        voiceTracks[voice] = -1;
+        activeCount--;
+    }
+}
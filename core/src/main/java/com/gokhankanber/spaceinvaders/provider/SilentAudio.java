@@ -0,0 +1,58 @@
+/*
+ * Copyright 2018 Gökhan Kanber
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.gokhankanber.spaceinvaders.provider;
+
+/**
+ * Audio implementation without output for headless simulation.
+ */
+public class SilentAudio implements IAudio
+{
+    @Override
+    public void playInvaderMoveOneSound()
+    {
+    }
+
+    @Override
+    public void playInvaderMoveTwoSound()
+    {
+    }
+
+    @Override
+    public void playLaserSound()
+    {
+    }
+
+    @Override
+    public void playExplosionSound()
+    {
+    }
+
+    @Override
+    public void playCommandAlienShipSound()
+    {
+    }
+
+    @Override
+    public void playLaserCannonSound()
+    {
+    }
+
+    @Override
+    public void stopCommandAlienShipSound()
+    {
+    }
+}
@@ -0,0 +1,115 @@
+/*
+ * Copyright 2018 Gökhan Kanber
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.gokhankanber.spaceinvaders.provider;
+
+/**
+ * Sprite sheet regions shared by world models and renderers.
+ */
+public class Sprite
+{
+    // x, y, width, height, color (rgba)
+    public static final int[] COMMAND_ALIEN_SHIP = {0, 0, 48, 8, 0x590f90ff};
+    public static final int[] INVADER_LASER_EXPLOSION = {48, 0, 6, 8, 0xff0000ff};
+    public static final int[] PLAYER_LASER_EXPLOSION = {54, 0, 8, 8, 0xff0000ff};
+    public static final int[] INVADER_ONE = {0, 8, 32, 8, 0x0000ffff};
+    public static final int[] INVADER_TWO = {32, 8, 32, 8, 0x00ff00ff};
+    public static final int[] INVADER_THREE = {0, 16, 32, 8, 0xffff00ff};
+    public static final int[] INVADER_EXPLOSION = {32, 16, 16, 8, 0xffffffff};
+    public static final int[] PLAYER = {48, 16, 16, 8, 0x088817ff};
+    public static final int[] SHIELD = {0, 24, 22, 16, 0xdf251cff};
+    public static final int[] PLAYER_EXPLOSION = {22, 24, 32, 8, 0x088817ff};
+    public static final int[] LASERS = {22, 32, 36, 8, 0xffffffff};
+    public static final int[] PLAYER_LASER = {58, 32, 1, 8, 0xbcbcbcff};
+    public static final int[] DIGITS = {0, 40, 30, 9, 0x088817ff};
+    public static final int[] GLYPHS = {0, 64, 64, 64, 0xffffffff}; // 8 x 8 glyphs of 8 x 8 pixels
+
+    // Sprite sheet: 64 pixels per row (the most significant bit is the leftmost pixel).
+    public static final int SHEET_WIDTH = 64;
+    public static final int SHEET_HEIGHT = 128;
+    public static final long[] SHEET = {79478399524L, 35465881527027848L, 143974802288293368L, 288160024483101692L,
+            494094168732515324L, 1152903989486976504L, 259449837396736144L, 72198404817573444L,
+            270220100878992400L, 2303626359716708896L, 4610630470486722544L, 4151256299207396824L,
+            4610630470621470716L, 459383036458833908L, 986316459088024596L, 3462155613973775200L,
+            108088040395636864L, 270220101390172608L, 567462211972235712L, 986303368095866876L,
+            1148435430057459710L, 162135771474575358L, 405332831587287038L, 743098474610311166L,
+            1152851170226606080L, 2305807825949451264L, 4611668471342891008L, 9223363549999925248L,
+            -4369035770880L, -3201352396800L, -3850161373184L, -3299258415104L, -4398046511104L,
+            -3005403290496L, -2050538789728L, -3208033782368L, -142992962196249376L, -287670431210986336L,
+            -576181327866796832L, -576182484689406560L, -1442304186124337152L, 0L, -5144481092362829824L,
+            0L, -6052844513435582464L, 0L, -6191770384585457664L, 0L, -3384417049378816L};
+
+    private static final int[][] REGIONS = {COMMAND_ALIEN_SHIP, INVADER_LASER_EXPLOSION,
+            PLAYER_LASER_EXPLOSION, INVADER_ONE, INVADER_TWO, INVADER_THREE,
+            INVADER_EXPLOSION, PLAYER, SHIELD, PLAYER_EXPLOSION, LASERS,
+            PLAYER_LASER, DIGITS};
+
+    /**
+     * Decodes pixel rows to colors.
+     * @param rows of 64 pixels.
+     * @param color of pixels, or 0 to use colors of sprite sheet regions.
+     * @param pixels to fill (rows.length * 64 colors), 0 for empty pixels.
+     */
+    public static void decode(long[] rows, int color, int[] pixels)
+    {
+        int length = rows.length;
+
+        for(int y = 0; y < length; y++)
+        {
+            int offset = y * SHEET_WIDTH;
+
+            for(int x = 63; x >= 0; x--)
+            {
+                if(((rows[y] >> x) & 1) == 1)
+                {
+                    pixels[offset + 63 - x] = color != 0 ? color : getColor(63 - x, y);
+                }
+                else
+                {
+                    pixels[offset + 63 - x] = 0;
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns a pixel row of sprite sheet region as bits.
+     * @param region of sprite sheet (narrower than 64 pixels).
+     * @param row of region from top.
+     * @return bits of row (the most significant bit of region width is the leftmost pixel).
+     */
+    public static long getRow(int[] region, int row)
+    {
+        return (SHEET[region[1] + row] >>> (SHEET_WIDTH - region[0] - region[2])) & ((1L << region[2]) - 1);
+    }
+
+    private static int getColor(int x, int y)
+    {
+        int color = 0xffffffff;
+        int max = REGIONS.length - 1;
+
+        for(int i = max; i >= 0; i--)
+        {
+            if(x >= REGIONS[i][0] && y >= REGIONS[i][1])
+            {
+                color = REGIONS[i][4];
+                break;
+            }
+        }
+
+        return color;
+    }
+}
@@ -0,0 +1,85 @@
+/*
+ * Copyright 2018 Gökhan Kanber
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.gokhankanber.spaceinvaders.provider;
+
+/**
+ * Creates 8-bit PCM samples of sound waves.
+ * Samples of a period are calculated once, and copied to the rest of the wave.
+ */
+public class Synthesizer
+{
+    public static final int SAMPLE_RATE = 48000;
+
+    /**
+     * Creates samples of a sine wave.
+     * @param frequency of wave.
+     * @param duration in seconds.
+     * @param maxValue amplitude of wave (values over byte range wrap around).
+     * @return samples.
+     */
+    public static byte[] createSine(float frequency, float duration, int maxValue)
+    {
+        byte[] bytes = new byte[(int) (SAMPLE_RATE * duration)];
+        int count = Math.min(getPeriod(frequency), bytes.length);
+
+        for(int i = 0; i < count; i++)
+        {
+            bytes[i] = (byte) (Math.sin(2 * Math.PI * i * frequency / SAMPLE_RATE) * maxValue);
+        }
+
+        // Copy periods, doubling the copied part each time.
+        for(int filled = count; filled < bytes.length; filled *= 2)
+        {
+            System.arraycopy(bytes, 0, bytes, filled, Math.min(filled, bytes.length - filled));
+        }
+
+        return bytes;
+    }
+
+    /**
+     * Returns number of samples after which samples of a sine wave repeat.
+     * For an integer frequency f, it is SAMPLE_RATE / gcd(SAMPLE_RATE, f) (f = 140 Hz repeats after 2400 samples).
+     * @param frequency of wave.
+     * @return period in samples, or Integer.MAX_VALUE if samples do not repeat.
+     */
+    public static int getPeriod(float frequency)
+    {
+        int value = (int) frequency;
+
+        if(value <= 0 || value != frequency)
+        {
+            return Integer.MAX_VALUE;
+        }
+
+        int a = SAMPLE_RATE;
+        int b = value;
+
+        while(b != 0)
+        {
+            int r = a % b;
+            a = b;
+            b = r;
+        }
+
+        return SAMPLE_RATE / a;
+    }
+
+    public static byte[] createSine(Track track)
+    {
+        return createSine(track.getFrequency(), track.getDuration(), track.getMaxValue());
+    }
+}
@@ -0,0 +1,69 @@
+/*
+ * Copyright 2018 Gökhan Kanber
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.gokhankanber.spaceinvaders.provider;
+
+/**
+ * Sound tracks with sine wave properties.
+ */
+public enum Track
+{
+    BUTTON(0, 600, 0.1f),
+    INVADER_MOVE_ONE(1, 150, 0.1f),
+    INVADER_MOVE_TWO(2, 140, 0.1f),
+    LASER(3, 1000, 0.1f),
+    EXPLOSION(4, 500, 0.1f),
+    COMMAND_ALIEN_SHIP(5, 5, 3, 5000),
+    LASERCANNON(6, 8, 1, 900);
+
+    private final int index;
+    private final float frequency;
+    private final float duration;
+    private final int maxValue;
+
+    Track(int index, float frequency, float duration)
+    {
+        this(index, frequency, duration, Byte.MAX_VALUE);
+    }
+
+    Track(int index, float frequency, float duration, int maxValue)
+    {
+        this.index = index;
+        this.frequency = frequency;
+        this.duration = duration;
+        this.maxValue = maxValue;
+    }
+
+    public int getIndex()
+    {
+        return index;
+    }
+
+    public float getFrequency()
+    {
+        return frequency;
+    }
+
+    public float getDuration()
+    {
+        return duration;
+    }
+
+    public int getMaxValue()
+    {
+        return maxValue;
+    }
+}
@@ -0,0 +1,85 @@
+/*
+ * Copyright 2018 Gökhan Kanber
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.gokhankanber.spaceinvaders.replay;
+
+import com.gokhankanber.spaceinvaders.controller.game.GameInputController.InputListener;
+import com.gokhankanber.spaceinvaders.controller.game.GameSession;
+
+/**
+ * Records input events with the current tick of session, and passes them to session.
+ * Event times are read from latency tracker of session, and rendered frames are added with frame method
+ * (only if latency is measured, so recording does not grow by every frame).
+ */
+public class InputRecorder implements InputListener
+{
+    private GameSession session;
+    private InputRecording recording;
+    private final long startTime = System.nanoTime();
+
+    public InputRecorder(GameSession session, InputRecording recording)
+    {
+        this.session = session;
+        this.recording = recording;
+    }
+
+    /**
+     * Records a rendered frame.
+     * @param time of the end of frame in nanoseconds.
+     */
+    public void frame(long time)
+    {
+        recording.addFrame(session.getTick(), time - startTime);
+    }
+
+    private long getEventTime()
+    {
+        return session.getLatencyTracker().getInputTime() - startTime;
+    }
+
+    public GameSession getSession()
+    {
+        return session;
+    }
+
+    public InputRecording getRecording()
+    {
+        recording.setTickCount(session.getTick());
+
+        return recording;
+    }
+
+    @Override
+    public void back()
+    {
+        recording.add(session.getTick(), InputRecording.BACK, 0, 0, getEventTime());
+        session.back();
+    }
+
+    @Override
+    public void move(float amount)
+    {
+        recording.add(session.getTick(), InputRecording.MOVE, amount, 0, getEventTime());
+        session.move(amount);
+    }
+
+    @Override
+    public void check(float x, float y)
+    {
+        recording.add(session.getTick(), InputRecording.CHECK, x, y, getEventTime());
+        session.check(x, y);
+    }
+}
@@ -0,0 +1,434 @@
+/*
+ * Copyright 2018 Gökhan Kanber
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.gokhankanber.spaceinvaders.replay;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+
+/**
+ * Recorded game session: world seed, display size, and input events with simulation ticks.
+ * Events are kept in primitive arrays, and written with tick deltas as variable length integers.
+ * Version 2 adds event times and rendered frames (tick and time) in microseconds, to measure input latency of session.
+ */
+public class InputRecording
+{
+    public static final byte BACK = 0;
+    public static final byte MOVE = 1;
+    public static final byte CHECK = 2;
+
+    private static final int MAGIC = 0x53495253; // SIRS
+    private static final int VERSION = 2;
+    private static final int HEADER_SIZE = 4 + 1 + 8 + 2 + 2;
+
+    private final long seed;
+    private final int displayWidth;
+    private final int displayHeight;
+    private int tickCount;
+    private int size;
+    private int[] ticks = new int[64];
+    private byte[] types = new byte[64];
+    private float[] values = new float[128];
+    private long[] times = new long[64];
+    private int frameCount;
+    private int[] frameTicks = new int[256];
+    private long[] frameTimes = new long[256];
+
+    /**
+     * Creates an empty recording.
+     * @param seed of world.
+     * @param displayWidth of recorded device, or 0 for headless simulation.
+     * @param displayHeight of recorded device, or 0 for headless simulation.
+     */
+    public InputRecording(long seed, int displayWidth, int displayHeight)
+    {
+        this.seed = seed;
+        this.displayWidth = displayWidth;
+        this.displayHeight = displayHeight;
+    }
+
+    public void add(int tick, byte type, float x, float y)
+    {
+        add(tick, type, x, y, 0);
+    }
+
+    /**
+     * Adds an input event.
+     * @param tick of session.
+     * @param type of event.
+     * @param x coordinate, or move amount.
+     * @param y coordinate.
+     * @param time of event in nanoseconds since session start.
+     */
+    public void add(int tick, byte type, float x, float y, long time)
+    {
+        if(size == ticks.length)
+        {
+            grow();
+        }
+
+        ticks[size] = tick;
+        types[size] = type;
+        values[2 * size] = x;
+        values[2 * size + 1] = y;
+        times[size] = time;
+        size++;
+    }
+
+    /**
+     * Adds a rendered frame.
+     * @param tick of session when frame is rendered.
+     * @param time of the end of frame in nanoseconds since session start.
+     */
+    public void addFrame(int tick, long time)
+    {
+        if(frameCount == frameTicks.length)
+        {
+            int[] newFrameTicks = new int[frameTicks.length * 2];
+            long[] newFrameTimes = new long[frameTimes.length * 2];
+            System.arraycopy(frameTicks, 0, newFrameTicks, 0, frameCount);
+            System.arraycopy(frameTimes, 0, newFrameTimes, 0, frameCount);
+            frameTicks = newFrameTicks;
+            frameTimes = newFrameTimes;
+        }
+
+        frameTicks[frameCount] = tick;
+        frameTimes[frameCount] = time;
+        frameCount++;
+    }
+
+    private void grow()
+    {
+        int[] newTicks = new int[ticks.length * 2];
+        byte[] newTypes = new byte[types.length * 2];
+        float[] newValues = new float[values.length * 2];
+        long[] newTimes = new long[times.length * 2];
+        System.arraycopy(ticks, 0, newTicks, 0, size);
+        System.arraycopy(types, 0, newTypes, 0, size);
+        System.arraycopy(values, 0, newValues, 0, 2 * size);
+        System.arraycopy(times, 0, newTimes, 0, size);
+        ticks = newTicks;
+        types = newTypes;
+        values = newValues;
+        times = newTimes;
+    }
+
+    public long getSeed()
+    {
+        return seed;
+    }
+
+    public int getDisplayWidth()
+    {
+        return displayWidth;
+    }
+
+    public int getDisplayHeight()
+    {
+        return displayHeight;
+    }
+
+    /**
+     * Returns number of simulation steps of session.
+     * @return tick count.
+     */
+    public int getTickCount()
+    {
+        return tickCount;
+    }
+
+    public void setTickCount(int tickCount)
+    {
+        this.tickCount = tickCount;
+    }
+
+    public int size()
+    {
+        return size;
+    }
+
+    public int getTick(int index)
+    {
+        return ticks[index];
+    }
+
+    public byte getType(int index)
+    {
+        return types[index];
+    }
+
+    public float getX(int index)
+    {
+        return values[2 * index];
+    }
+
+    public float getY(int index)
+    {
+        return values[2 * index + 1];
+    }
+
+    /**
+     * Returns time of event since session start.
+     * @param index of event.
+     * @return time in nanoseconds (microsecond precision after reading), or 0 for recordings without times.
+     */
+    public long getTime(int index)
+    {
+        return times[index];
+    }
+
+    /**
+     * Returns number of rendered frames, 0 for recordings without frames.
+     * @return frame count.
+     */
+    public int getFrameCount()
+    {
+        return frameCount;
+    }
+
+    public int getFrameTick(int index)
+    {
+        return frameTicks[index];
+    }
+
+    public long getFrameTime(int index)
+    {
+        return frameTimes[index];
+    }
+
+    public void write(OutputStream outputStream) throws IOException
+    {
+        DataOutputStream out = new DataOutputStream(outputStream);
+        out.writeInt(MAGIC);
+        out.writeByte(VERSION);
+        out.writeLong(seed);
+        out.writeShort(displayWidth);
+        out.writeShort(displayHeight);
+        writeVarInt(out, tickCount);
+        writeVarInt(out, size);
+
+        int previousTick = 0;
+        long previousTime = 0;
+
+        for(int i = 0; i < size; i++)
+        {
+            writeVarInt(out, ticks[i] - previousTick);
+            out.writeByte(types[i]);
+            writeVarLong(out, times[i] / 1000 - previousTime);
+            previousTick = ticks[i];
+            previousTime = times[i] / 1000;
+
+            switch(types[i])
+            {
+                case MOVE:
+                    out.writeFloat(values[2 * i]);
+                    break;
+                case CHECK:
+                    out.writeFloat(values[2 * i]);
+                    out.writeFloat(values[2 * i + 1]);
+                    break;
+            }
+        }
+
+        writeVarInt(out, frameCount);
+        previousTick = 0;
+        previousTime = 0;
+
+        for(int i = 0; i < frameCount; i++)
+        {
+            writeVarInt(out, frameTicks[i] - previousTick);
+            writeVarLong(out, frameTimes[i] / 1000 - previousTime);
+            previousTick = frameTicks[i];
+            previousTime = frameTimes[i] / 1000;
+        }
+
+        out.flush();
+    }
+
+    public static InputRecording read(InputStream inputStream) throws IOException
+    {
+        return read(inputStream, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Reads a recording, rejecting ticks that decrease or pass tick count, and counts that cannot fit in length.
+     * @param inputStream of recording.
+     * @param length of recording in bytes.
+     * @return recording.
+     * @throws IOException if recording cannot be read or is not valid.
+     */
+    public static InputRecording read(InputStream inputStream, int length) throws IOException
+    {
+        DataInputStream in = new DataInputStream(inputStream);
+
+        if(in.readInt() != MAGIC)
+        {
+            throw new IOException("Not a session recording.");
+        }
+
+        int version = in.readByte();
+
+        if(version < 1 || version > VERSION)
+        {
+            throw new IOException("Unsupported session recording version: " + version);
+        }
+
+        InputRecording recording = new InputRecording(in.readLong(), in.readUnsignedShort(), in.readUnsignedShort());
+        recording.tickCount = readVarInt(in);
+
+        if(recording.tickCount < 0)
+        {
+            throw new IOException("Invalid tick count: " + recording.tickCount);
+        }
+
+        // Tick count and event count take at least a byte each, and an event at least a tick delta and type (and time).
+        int count = readVarInt(in);
+        checkCount(count, (length - HEADER_SIZE - 2) / (version >= 2 ? 3 : 2));
+        int tick = 0;
+        long time = 0;
+
+        for(int i = 0; i < count; i++)
+        {
+            tick = readTick(in, tick, recording.tickCount);
+            byte type = in.readByte();
+            float x = 0;
+            float y = 0;
+
+            if(version >= 2)
+            {
+                time += readVarLong(in);
+            }
+
+            switch(type)
+            {
+                case MOVE:
+                    x = in.readFloat();
+                    break;
+                case CHECK:
+                    x = in.readFloat();
+                    y = in.readFloat();
+                    break;
+            }
+
+            recording.add(tick, type, x, y, time * 1000);
+        }
+
+        if(version >= 2)
+        {
+            // A frame takes at least a tick delta and time.
+            count = readVarInt(in);
+            checkCount(count, (length - HEADER_SIZE - 3) / 2);
+            tick = 0;
+            time = 0;
+
+            for(int i = 0; i < count; i++)
+            {
+                tick = readTick(in, tick, recording.tickCount);
+                time += readVarLong(in);
+                recording.addFrame(tick, time * 1000);
+            }
+        }
+
+        return recording;
+    }
+
+    private static void checkCount(int count, int maxCount) throws IOException
+    {
+        if(count < 0 || count > maxCount)
+        {
+            throw new IOException("Invalid count: " + count);
+        }
+    }
+
+    /**
+     * Reads tick delta, and returns tick after previous tick.
+     */
+    private static int readTick(DataInputStream in, int previousTick, int tickCount) throws IOException
+    {
+        int delta = readVarInt(in);
+
+        if(delta < 0 || delta > tickCount - previousTick)
+        {
+            throw new IOException("Invalid tick delta: " + delta);
+        }
+
+        return previousTick + delta;
+    }
+
+    private static void writeVarInt(DataOutputStream out, int value) throws IOException
+    {
+        while((value & ~0x7f) != 0)
+        {
+            out.writeByte((value & 0x7f) | 0x80);
+            value >>>= 7;
+        }
+
+        out.writeByte(value);
+    }
+
+    /**
+     * Writes a signed value with zigzag encoding as a variable length integer.
+     */
+    private static void writeVarLong(DataOutputStream out, long value) throws IOException
+    {
+        long zigzag = (value << 1) ^ (value >> 63);
+
+        while((zigzag & ~0x7fL) != 0)
+        {
+            out.writeByte((int) (zigzag & 0x7f) | 0x80);
+            zigzag >>>= 7;
+        }
+
+        out.writeByte((int) zigzag);
+    }
+
+    private static long readVarLong(DataInputStream in) throws IOException
+    {
+        long zigzag = 0;
+        int shift = 0;
+        int b;
+
+        do
+        {
+            b = in.readUnsignedByte();
+            zigzag |= (long) (b & 0x7f) << shift;
+            shift += 7;
+        }
+        while((b & 0x80) != 0);
+
+        return (zigzag >>> 1) ^ -(zigzag & 1);
+    }
+
+    private static int readVarInt(DataInputStream in) throws IOException
+    {
+        int value = 0;
+        int shift = 0;
+        int b;
+
+        do
+        {
+            b = in.readUnsignedByte();
+            value |= (b & 0x7f) << shift;
+            shift += 7;
+        }
+        while((b & 0x80) != 0);
+
+        return value;
+    }
+}
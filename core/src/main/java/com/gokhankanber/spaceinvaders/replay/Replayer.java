@@ -0,0 +1,215 @@
+/*
+ * Copyright 2018 Gökhan Kanber
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.gokhankanber.spaceinvaders.replay;
+
+import com.gokhankanber.spaceinvaders.controller.game.GameMenu;
+import com.gokhankanber.spaceinvaders.controller.game.GameSession;
+import com.gokhankanber.spaceinvaders.model.LaserCannon;
+import com.gokhankanber.spaceinvaders.model.World;
+import com.gokhankanber.spaceinvaders.profiler.Histogram;
+import com.gokhankanber.spaceinvaders.profiler.LatencyTracker;
+import com.gokhankanber.spaceinvaders.provider.Config;
+import com.gokhankanber.spaceinvaders.provider.SilentAudio;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * Replays a recorded session without display, tick for tick.
+ * Recorded event and frame times are passed to latency tracker of session, so input latency is measured as in game.
+ * Usage: java com.gokhankanber.spaceinvaders.replay.Replayer session.rec
+ */
+public class Replayer
+{
+    private static final int LATENCY_CAPACITY = 4096; // Latencies of the last inputs of each kind.
+
+    private final float step = 1.0f / Config.STEPS_PER_SECOND;
+    private InputRecording recording;
+    private GameSession session;
+    private LatencyTracker latencyTracker;
+    private int frameIndex;
+    private boolean exit;
+    private long maxStepTime;
+    private int maxStepTick;
+
+    public Replayer(InputRecording recording)
+    {
+        this.recording = recording;
+
+        // World size depends on display aspect ratio.
+        float height = Config.HEADLESS_HEIGHT;
+
+        if(recording.getDisplayWidth() > 0)
+        {
+            height = Config.getHeight(recording.getDisplayWidth(), recording.getDisplayHeight());
+        }
+
+        World world = new World(new SilentAudio(), 5, 11, recording.getSeed(), height);
+        session = new GameSession(world, sessionListener);
+        latencyTracker = new LatencyTracker(LATENCY_CAPACITY);
+        session.setLatencyTracker(latencyTracker);
+    }
+
+    /**
+     * Runs all ticks of recording, or until exit is selected in game menu.
+     */
+    public void run()
+    {
+        int index = 0;
+        int size = recording.size();
+        int tickCount = recording.getTickCount();
+
+        while(session.getTick() < tickCount && !exit)
+        {
+            // Frames rendered before input of this tick.
+            render(session.getTick());
+
+            while(index < size && recording.getTick(index) == session.getTick())
+            {
+                latencyTracker.setInputTime(recording.getTime(index));
+                apply(index++);
+            }
+
+            long time = System.nanoTime();
+            session.update(step);
+            time = System.nanoTime() - time;
+
+            if(time > maxStepTime)
+            {
+                maxStepTime = time;
+                maxStepTick = session.getTick() - 1;
+            }
+        }
+
+        render(session.getTick());
+        latencyTracker.update();
+    }
+
+    /**
+     * Passes times of recorded frames up to specified tick to latency tracker.
+     */
+    private void render(int tick)
+    {
+        int frameCount = recording.getFrameCount();
+
+        while(frameIndex < frameCount && recording.getFrameTick(frameIndex) <= tick)
+        {
+            latencyTracker.rendered(recording.getFrameTime(frameIndex++));
+        }
+    }
+
+    private void apply(int index)
+    {
+        switch(recording.getType(index))
+        {
+            case InputRecording.BACK:
+                session.back();
+                break;
+            case InputRecording.MOVE:
+                session.move(recording.getX(index));
+                break;
+            case InputRecording.CHECK:
+                session.check(recording.getX(index), recording.getY(index));
+                break;
+        }
+    }
+
+    public GameSession getSession()
+    {
+        return session;
+    }
+
+    /**
+     * Returns the longest simulation step time of replay.
+     * @return time in nanoseconds.
+     */
+    public long getMaxStepTime()
+    {
+        return maxStepTime;
+    }
+
+    public int getMaxStepTick()
+    {
+        return maxStepTick;
+    }
+
+    public LatencyTracker getLatencyTracker()
+    {
+        return latencyTracker;
+    }
+
+    private GameSession.SessionListener sessionListener = new GameSession.SessionListener()
+    {
+        @Override
+        public void buttonClicked()
+        {
+        }
+
+        @Override
+        public void gameMenuChanged(GameMenu.Type type)
+        {
+        }
+
+        @Override
+        public void exit()
+        {
+            exit = true;
+        }
+    };
+
+    public static void main(String[] args) throws IOException
+    {
+        if(args.length == 0)
+        {
+            System.out.println("Usage: Replayer <recording file>");
+
+            return;
+        }
+
+        InputRecording recording;
+        InputStream in = new FileInputStream(args[0]);
+
+        try
+        {
+            recording = InputRecording.read(in);
+        }
+        finally
+        {
+            in.close();
+        }
+
+        Replayer replayer = new Replayer(recording);
+        long time = System.nanoTime();
+        replayer.run();
+        time = System.nanoTime() - time;
+
+        LaserCannon laserCannon = replayer.getSession().getWorld().getLaserCannon();
+        System.out.println("ticks: " + replayer.getSession().getTick() + ", events: " + recording.size());
+        System.out.println("points: " + laserCannon.points + ", lives: " + laserCannon.lives + ", level: " + laserCannon.level);
+        System.out.println("time: " + time / 1000000 + " ms, max step: " + replayer.getMaxStepTime() / 1000 + " us at tick " + replayer.getMaxStepTick());
+
+        if(recording.getFrameCount() > 0)
+        {
+            for(int i = 0; i < LatencyTracker.KIND_COUNT; i++)
+            {
+                Histogram histogram = replayer.getLatencyTracker().getHistogram(i);
+                System.out.println(LatencyTracker.getName(i).toLowerCase() + " latency: " + histogram.getCount() + " inputs, p50: "
+                        + histogram.getP50() / 1000 + " us, p95: " + histogram.getP95() / 1000 + " us, p99: " + histogram.getP99() / 1000 + " us");
+            }
+        }
+    }
+}
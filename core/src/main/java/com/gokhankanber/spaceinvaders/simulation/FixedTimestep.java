@@ -0,0 +1,97 @@
+/*
+ * Copyright 2018 Gökhan Kanber
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.gokhankanber.spaceinvaders.simulation;
+
+/**
+ * Accumulator based fixed time step scheduler.
+ * Converts variable frame times to a number of constant simulation steps,
+ * and keeps the remaining time as interpolation alpha for rendering.
+ */
+public class FixedTimestep
+{
+    private final float step;
+    private final int maxSteps;
+    private float accumulator;
+    private float alpha;
+
+    /**
+     * @param stepsPerSecond is simulation rate in Hz.
+     * @param maxSteps is maximum number of catch-up steps per frame.
+     */
+    public FixedTimestep(int stepsPerSecond, int maxSteps)
+    {
+        if(stepsPerSecond <= 0 || maxSteps <= 0)
+        {
+            throw new IllegalArgumentException("Steps per second and max steps must be positive.");
+        }
+
+        this.step = 1.0f / stepsPerSecond;
+        this.maxSteps = maxSteps;
+    }
+
+    /**
+     * Adds frame time to accumulator.
+     * Time more than max steps is dropped to avoid running behind after long frames.
+     * @param delta is frame time in seconds.
+     * @return number of steps to run for this frame.
+     */
+    public int advance(float delta)
+    {
+        accumulator += delta;
+
+        int steps = (int) (accumulator / step);
+
+        if(steps > maxSteps)
+        {
+            steps = maxSteps;
+            accumulator = 0;
+        }
+        else
+        {
+            accumulator -= steps * step;
+        }
+
+        alpha = accumulator / step;
+
+        return steps;
+    }
+
+    public void reset()
+    {
+        accumulator = 0;
+        alpha = 0;
+    }
+
+    public float getStep()
+    {
+        return step;
+    }
+
+    public int getMaxSteps()
+    {
+        return maxSteps;
+    }
+
+    /**
+     * Returns interpolation value between previous and current step.
+     * @return alpha in range [0, 1).
+     */
+    public float getAlpha()
+    {
+        return alpha;
+    }
+}
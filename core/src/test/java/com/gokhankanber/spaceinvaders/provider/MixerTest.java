@@ -0,0 +1,182 @@
+/*
+ * Copyright 2018 Gökhan Kanber
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.gokhankanber.spaceinvaders.provider;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+public class MixerTest
+{
+    private static final int LENGTH = 64;
+
+    @Test
+    public void silenceIsMidScale()
+    {
+        Mixer mixer = new Mixer(new byte[][] {constant(10, LENGTH)}, 2, 8);
+        byte[] out = new byte[LENGTH];
+
+        assertEquals(0, mixer.mix(out, 0, LENGTH));
+        assertSamples(out, 0, LENGTH, 128);
+    }
+
+    @Test
+    public void singleVoiceIsScaledByHeadroom()
+    {
+        byte[] samples = Synthesizer.createSine(Track.LASER);
+        Mixer mixer = new Mixer(new byte[][] {samples}, 2, 8);
+        byte[] out = new byte[samples.length];
+
+        mixer.play(0, false);
+        mixer.mix(out, 0, samples.length);
+
+        for(int i = 0; i < samples.length; i++)
+        {
+            assertEquals(samples[i] / Mixer.HEADROOM + 128, out[i] & 0xff);
+        }
+    }
+
+    @Test
+    public void voicesAreSummedSignedAndClamped()
+    {
+        byte[][] tracks = {constant(40, LENGTH), constant(-20, LENGTH), constant(127, LENGTH), constant(-128, LENGTH)};
+        Mixer mixer = new Mixer(tracks, 4, 8);
+        byte[] out = new byte[LENGTH];
+
+        mixer.play(0, false);
+        mixer.play(1, false);
+        mixer.mix(out, 0, LENGTH);
+        assertSamples(out, 0, LENGTH, (40 - 20) / Mixer.HEADROOM + 128);
+
+        mixer.stop(0);
+        mixer.stop(1);
+        mixer.play(2, false);
+        mixer.play(2, false);
+        mixer.play(2, false);
+        mixer.mix(out, 0, LENGTH);
+        assertSamples(out, 0, LENGTH, 255);
+
+        mixer.stop(2);
+        mixer.play(3, false);
+        mixer.play(3, false);
+        mixer.play(3, false);
+        mixer.mix(out, 0, LENGTH);
+        assertSamples(out, 0, LENGTH, 0);
+    }
+
+    @Test
+    public void oldestVoiceThatDoesNotLoopIsReplaced()
+    {
+        byte[][] tracks = {constant(10, LENGTH), constant(20, LENGTH), constant(40, LENGTH), constant(80, LENGTH)};
+        Mixer mixer = new Mixer(tracks, 2, 8);
+        byte[] out = new byte[LENGTH];
+
+        mixer.play(0, true);
+        mixer.play(1, false);
+        mixer.mix(out, 0, 1);
+        assertEquals((10 + 20) / Mixer.HEADROOM + 128, out[0] & 0xff);
+
+        // Replaces track 1, not the older looping track 0.
+        mixer.play(2, false);
+        assertEquals(2, mixer.mix(out, 0, 1));
+        assertEquals((10 + 40) / Mixer.HEADROOM + 128, out[0] & 0xff);
+
+        // All voices loop, so the oldest loop is replaced.
+        mixer.play(1, true);
+        mixer.play(3, true);
+        assertEquals(2, mixer.mix(out, 0, 1));
+        assertEquals((20 + 80) / Mixer.HEADROOM + 128, out[0] & 0xff);
+    }
+
+    @Test
+    public void gainOfVoiceDoesNotChangeWithOtherVoices()
+    {
+        // Track 1 is silent and shorter than a buffer, so output is only track 0.
+        byte[][] tracks = {constant(60, LENGTH), constant(0, LENGTH / 4)};
+        Mixer mixer = new Mixer(tracks, 4, 8);
+        byte[] out = new byte[LENGTH];
+        int expected = 60 / Mixer.HEADROOM + 128;
+
+        mixer.play(0, true);
+        mixer.mix(out, 0, LENGTH);
+        assertSamples(out, 0, LENGTH, expected);
+
+        mixer.play(1, false);
+        mixer.play(1, false);
+        assertEquals(3, mixer.mix(out, 0, LENGTH / 8));
+        assertSamples(out, 0, LENGTH / 8, expected);
+
+        // Short voices end during this buffer.
+        mixer.mix(out, 0, LENGTH);
+        assertEquals(1, mixer.getActiveCount());
+        assertSamples(out, 0, LENGTH, expected);
+    }
+
+    @Test
+    public void loopingTrackRepeatsUntilStopped()
+    {
+        byte[] samples = {1, 2, 3, 4};
+        Mixer mixer = new Mixer(new byte[][] {samples}, 1, 8);
+        byte[] out = new byte[10];
+
+        mixer.play(0, true);
+        mixer.mix(out, 0, out.length);
+
+        for(int i = 0; i < out.length; i++)
+        {
+            assertEquals(samples[i % samples.length] / Mixer.HEADROOM + 128, out[i] & 0xff);
+        }
+
+        mixer.stop(0);
+        assertEquals(0, mixer.mix(out, 0, out.length));
+    }
+
+    @Test
+    public void fullCommandBufferRejectsCommands()
+    {
+        Mixer mixer = new Mixer(new byte[][] {constant(1, LENGTH)}, 1, 2);
+
+        assertTrue(mixer.play(0, false));
+        assertTrue(mixer.stop(0));
+        assertFalse(mixer.play(0, false));
+
+        mixer.mix(new byte[1], 0, 1);
+        assertTrue(mixer.play(0, false));
+    }
+
+    private static byte[] constant(int value, int length)
+    {
+        byte[] samples = new byte[length];
+
+        for(int i = 0; i < length; i++)
+        {
+            samples[i] = (byte) value;
+        }
+
+        return samples;
+    }
+
+    private static void assertSamples(byte[] out, int offset, int length, int expected)
+    {
+        for(int i = offset; i < offset + length; i++)
+        {
+            assertEquals(expected, out[i] & 0xff);
+        }
+    }
+}
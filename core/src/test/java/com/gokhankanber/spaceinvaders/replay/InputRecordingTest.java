@@ -0,0 +1,102 @@
+/*
+ * Copyright 2018 Gökhan Kanber
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.gokhankanber.spaceinvaders.replay;
+
+import static org.junit.Assert.assertEquals;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import org.junit.Test;
+
+public class InputRecordingTest
+{
+    @Test
+    public void readsWrittenRecording() throws IOException
+    {
+        InputRecording recording = new InputRecording(7, 1080, 1920);
+        recording.add(0, InputRecording.CHECK, 10, 20, 1000);
+        recording.add(3, InputRecording.MOVE, -2.5f, 0, 5000);
+        recording.add(3, InputRecording.BACK, 0, 0, 6000);
+        recording.addFrame(1, 2000);
+        recording.addFrame(4, 8000);
+        recording.setTickCount(5);
+
+        byte[] bytes = write(recording);
+        InputRecording read = InputRecording.read(new ByteArrayInputStream(bytes), bytes.length);
+
+        assertEquals(7, read.getSeed());
+        assertEquals(5, read.getTickCount());
+        assertEquals(3, read.size());
+        assertEquals(3, read.getTick(1));
+        assertEquals(InputRecording.MOVE, read.getType(1));
+        assertEquals(5000, read.getTime(1));
+        assertEquals(2, read.getFrameCount());
+        assertEquals(4, read.getFrameTick(1));
+        assertEquals(8000, read.getFrameTime(1));
+    }
+
+    @Test(expected = IOException.class)
+    public void rejectsDecreasingTicks() throws IOException
+    {
+        InputRecording recording = new InputRecording(1, 0, 0);
+        recording.add(5, InputRecording.BACK, 0, 0);
+        recording.add(2, InputRecording.BACK, 0, 0);
+        recording.setTickCount(10);
+
+        read(write(recording));
+    }
+
+    @Test(expected = IOException.class)
+    public void rejectsEventsAfterTickCount() throws IOException
+    {
+        InputRecording recording = new InputRecording(1, 0, 0);
+        recording.add(20, InputRecording.BACK, 0, 0);
+        recording.setTickCount(10);
+
+        read(write(recording));
+    }
+
+    @Test(expected = IOException.class)
+    public void rejectsCountsThatDoNotFitInLength() throws IOException
+    {
+        InputRecording recording = new InputRecording(1, 0, 0);
+
+        for(int i = 0; i < 100; i++)
+        {
+            recording.add(i, InputRecording.BACK, 0, 0);
+        }
+
+        recording.setTickCount(100);
+        byte[] bytes = write(recording);
+
+        InputRecording.read(new ByteArrayInputStream(bytes), bytes.length / 2);
+    }
+
+    private static byte[] write(InputRecording recording) throws IOException
+    {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        recording.write(out);
+
+        return out.toByteArray();
+    }
+
+    private static InputRecording read(byte[] bytes) throws IOException
+    {
+        return InputRecording.read(new ByteArrayInputStream(bytes), bytes.length);
+    }
+}
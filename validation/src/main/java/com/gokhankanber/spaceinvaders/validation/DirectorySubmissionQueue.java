@@ -0,0 +1,109 @@
+/*
+ * Copyright 2018 Gökhan Kanber
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.gokhankanber.spaceinvaders.validation;
+
+import java.io.File;
+import java.io.FileFilter;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.Arrays;
+
+/**
+ * File based stand-in for upload queue, for running validator locally.
+ * Each submission is a recording file (name.rec) and a text file with claimed score (name.score: points level lives).
+ * Recordings are read in file name order.
+ */
+public class DirectorySubmissionQueue implements ISubmissionQueue
+{
+    public static final String RECORDING_EXTENSION = ".rec";
+    public static final String SCORE_EXTENSION = ".score";
+
+    private final File[] files;
+    private int index;
+
+    public DirectorySubmissionQueue(File directory) throws IOException
+    {
+        files = directory.listFiles(new FileFilter()
+        {
+            @Override
+            public boolean accept(File file)
+            {
+                return file.isFile() && file.getName().endsWith(RECORDING_EXTENSION);
+            }
+        });
+
+        if(files == null)
+        {
+            throw new IOException("Not a directory: " + directory);
+        }
+
+        Arrays.sort(files);
+    }
+
+    @Override
+    public Submission poll() throws IOException
+    {
+        if(index == files.length)
+        {
+            return null;
+        }
+
+        File file = files[index++];
+        String name = file.getName();
+        String id = name.substring(0, name.length() - RECORDING_EXTENSION.length());
+        File scoreFile = new File(file.getParentFile(), id + SCORE_EXTENSION);
+
+        return new Submission(id, Files.readAllBytes(file.toPath()), readScore(scoreFile));
+    }
+
+    /**
+     * Writes claimed score file of a submission.
+     * @param directory of queue.
+     * @param id of submission.
+     * @param score claimed by client.
+     * @throws IOException if file cannot be written.
+     */
+    public static void writeScore(File directory, String id, Score score) throws IOException
+    {
+        String text = score.points + " " + score.level + " " + score.lives + "\n";
+        Files.write(new File(directory, id + SCORE_EXTENSION).toPath(), text.getBytes("UTF-8"));
+    }
+
+    private Score readScore(File file) throws IOException
+    {
+        if(!file.isFile())
+        {
+            return null;
+        }
+
+        String[] values = new String(Files.readAllBytes(file.toPath()), "UTF-8").trim().split("\\s+");
+
+        if(values.length != 3)
+        {
+            return null;
+        }
+
+        try
+        {
+            return new Score(Integer.parseInt(values[0]), Integer.parseInt(values[1]), Integer.parseInt(values[2]));
+        }
+        catch(NumberFormatException e)
+        {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,32 @@
+/*
+ * Copyright 2018 Gökhan Kanber
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.gokhankanber.spaceinvaders.validation;
+
+import java.io.IOException;
+
+/**
+ * Queue of uploaded sessions to validate.
+ */
+public interface ISubmissionQueue
+{
+    /**
+     * Returns next submission.
+     * @return submission, or null if queue is empty.
+     * @throws IOException if queue cannot be read.
+     */
+    Submission poll() throws IOException;
+}
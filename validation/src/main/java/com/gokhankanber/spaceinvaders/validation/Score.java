@@ -0,0 +1,45 @@
+/*
+ * Copyright 2018 Gökhan Kanber
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.gokhankanber.spaceinvaders.validation;
+
+/**
+ * Final points, level, and lives of a game session.
+ */
+public class Score
+{
+    public final int points;
+    public final int level;
+    public final int lives;
+
+    public Score(int points, int level, int lives)
+    {
+        this.points = points;
+        this.level = level;
+        this.lives = lives;
+    }
+
+    public boolean matches(Score score)
+    {
+        return score != null && points == score.points && level == score.level && lives == score.lives;
+    }
+
+    @Override
+    public String toString()
+    {
+        return "points: " + points + ", level: " + level + ", lives: " + lives;
+    }
+}
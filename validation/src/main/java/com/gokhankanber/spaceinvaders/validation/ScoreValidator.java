@@ -0,0 +1,265 @@
+/*
+ * Copyright 2018 Gökhan Kanber
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.gokhankanber.spaceinvaders.validation;
+
+import com.gokhankanber.spaceinvaders.model.LaserCannon;
+import com.gokhankanber.spaceinvaders.provider.Config;
+import com.gokhankanber.spaceinvaders.replay.InputRecording;
+import com.gokhankanber.spaceinvaders.replay.Replayer;
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+
+/**
+ * Validates scores reported by clients by replaying their session recordings without display.
+ * Sessions are replayed in parallel by a fork-join pool, while the next submissions are read from queue.
+ * Usage: java com.gokhankanber.spaceinvaders.validation.ScoreValidator directory [threads]
+ */
+public class ScoreValidator
+{
+    /**
+     * Longest accepted session (one hour), so a recording cannot hold a validation thread for long.
+     */
+    public static final int MAX_TICKS = Config.STEPS_PER_SECOND * 60 * 60;
+
+    public enum Status
+    {
+        VALID,
+        MISMATCH,
+        MALFORMED,
+        TOO_LONG
+    }
+
+    private final ForkJoinPool pool;
+
+    /**
+     * @param parallelism number of threads.
+     */
+    public ScoreValidator(int parallelism)
+    {
+        if(parallelism <= 0)
+        {
+            throw new IllegalArgumentException("Parallelism must be positive.");
+        }
+
+        pool = new ForkJoinPool(parallelism);
+    }
+
+    /**
+     * Replays a submission, and compares final score of laser cannon with claimed score.
+     * A recording that cannot be read or replayed is malformed, so it does not fail other submissions.
+     * @param submission to validate.
+     * @return result.
+     */
+    public static Result validate(Submission submission)
+    {
+        InputRecording recording;
+
+        try
+        {
+            byte[] bytes = submission.getRecording();
+            recording = InputRecording.read(new ByteArrayInputStream(bytes), bytes.length);
+        }
+        catch(IOException | RuntimeException e)
+        {
+            return new Result(submission, Status.MALFORMED, null, 0);
+        }
+
+        if(submission.getClaimedScore() == null)
+        {
+            return new Result(submission, Status.MALFORMED, null, 0);
+        }
+
+        if(recording.getTickCount() > MAX_TICKS)
+        {
+            return new Result(submission, Status.TOO_LONG, null, 0);
+        }
+
+        Replayer replayer;
+
+        try
+        {
+            replayer = new Replayer(recording);
+            replayer.run();
+        }
+        catch(RuntimeException e)
+        {
+            return new Result(submission, Status.MALFORMED, null, 0);
+        }
+
+        LaserCannon laserCannon = replayer.getSession().getWorld().getLaserCannon();
+        Score score = new Score(laserCannon.points, laserCannon.level, laserCannon.lives);
+        Status status = score.matches(submission.getClaimedScore()) ? Status.VALID : Status.MISMATCH;
+
+        return new Result(submission, status, score, replayer.getSession().getTick());
+    }
+
+    /**
+     * Validates all submissions of queue.
+     * @param queue of submissions.
+     * @return results in queue order.
+     * @throws IOException if queue cannot be read.
+     */
+    public List<Result> validateAll(ISubmissionQueue queue) throws IOException
+    {
+        List<Future<Result>> futures = new ArrayList<Future<Result>>();
+        Submission submission;
+
+        while((submission = queue.poll()) != null)
+        {
+            futures.add(pool.submit(new ValidateTask(submission)));
+        }
+
+        List<Result> results = new ArrayList<Result>(futures.size());
+
+        for(int i = 0; i < futures.size(); i++)
+        {
+            try
+            {
+                results.add(futures.get(i).get());
+            }
+            catch(InterruptedException e)
+            {
+                Thread.currentThread().interrupt();
+
+                throw new IOException("Validation interrupted.", e);
+            }
+            catch(ExecutionException e)
+            {
+                throw new IllegalStateException("Validation failed.", e.getCause());
+            }
+        }
+
+        return results;
+    }
+
+    public void dispose()
+    {
+        pool.shutdown();
+    }
+
+    private static class ValidateTask implements Callable<Result>
+    {
+        private final Submission submission;
+
+        ValidateTask(Submission submission)
+        {
+            this.submission = submission;
+        }
+
+        @Override
+        public Result call()
+        {
+            return validate(submission);
+        }
+    }
+
+    public static class Result
+    {
+        private final Submission submission;
+        private final Status status;
+        private final Score score;
+        private final int ticks;
+
+        Result(Submission submission, Status status, Score score, int ticks)
+        {
+            this.submission = submission;
+            this.status = status;
+            this.score = score;
+            this.ticks = ticks;
+        }
+
+        public Submission getSubmission()
+        {
+            return submission;
+        }
+
+        public Status getStatus()
+        {
+            return status;
+        }
+
+        /**
+         * Returns score of replayed session.
+         * @return score, or null if session was not replayed.
+         */
+        public Score getScore()
+        {
+            return score;
+        }
+
+        public int getTicks()
+        {
+            return ticks;
+        }
+    }
+
+    public static void main(String[] args) throws IOException
+    {
+        if(args.length == 0)
+        {
+            System.out.println("Usage: ScoreValidator <submission directory> [threads]");
+
+            return;
+        }
+
+        int threads = args.length > 1 ? Integer.parseInt(args[1]) : Runtime.getRuntime().availableProcessors();
+        ScoreValidator validator = new ScoreValidator(threads);
+        List<Result> results;
+        long time = System.nanoTime();
+
+        try
+        {
+            results = validator.validateAll(new DirectorySubmissionQueue(new File(args[0])));
+        }
+        finally
+        {
+            validator.dispose();
+        }
+
+        time = System.nanoTime() - time;
+
+        int valid = 0;
+        long ticks = 0;
+
+        for(int i = 0; i < results.size(); i++)
+        {
+            Result result = results.get(i);
+            ticks += result.getTicks();
+
+            if(result.getStatus() == Status.VALID)
+            {
+                valid++;
+            }
+            else
+            {
+                System.out.println(result.getSubmission().getId() + ": " + result.getStatus()
+                        + ", claimed: " + result.getSubmission().getClaimedScore() + ", replayed: " + result.getScore());
+            }
+        }
+
+        double seconds = time / 1e9;
+        System.out.println("sessions: " + results.size() + ", valid: " + valid + ", threads: " + threads + ", time: " + time / 1000000 + " ms");
+        System.out.println("throughput: " + (int) (results.size() / seconds) + " sessions/s, " + (long) (ticks / seconds) + " ticks/s");
+    }
+}
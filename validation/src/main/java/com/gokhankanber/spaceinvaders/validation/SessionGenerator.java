@@ -0,0 +1,154 @@
+/*
+ * Copyright 2018 Gökhan Kanber
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.gokhankanber.spaceinvaders.validation;
+
+import com.badlogic.gdx.math.Rectangle;
+import com.gokhankanber.spaceinvaders.controller.game.GameMenu;
+import com.gokhankanber.spaceinvaders.controller.game.GameSession;
+import com.gokhankanber.spaceinvaders.model.LaserCannon;
+import com.gokhankanber.spaceinvaders.model.World;
+import com.gokhankanber.spaceinvaders.provider.Config;
+import com.gokhankanber.spaceinvaders.provider.SilentAudio;
+import com.gokhankanber.spaceinvaders.replay.InputRecorder;
+import com.gokhankanber.spaceinvaders.replay.InputRecording;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Random;
+
+/**
+ * Writes recordings of headless sessions with random input, and their scores, to a submission directory
+ * for running validator locally. Every tenth claimed score is raised, so validator also reports mismatches.
+ * Usage: java com.gokhankanber.spaceinvaders.validation.SessionGenerator directory count [seed]
+ */
+public class SessionGenerator
+{
+    private final float step = 1.0f / Config.STEPS_PER_SECOND;
+    private final Random random;
+    private boolean exit;
+
+    public SessionGenerator(long seed)
+    {
+        random = new Random(seed);
+    }
+
+    /**
+     * Plays a session with random moves, fires, pauses, and resumes until the game ends or ticks run out.
+     * @param maxTicks of session.
+     * @return recorder of session.
+     */
+    public InputRecorder play(int maxTicks)
+    {
+        World world = new World(new SilentAudio(), 5, 11, random.nextLong(), Config.HEADLESS_HEIGHT);
+        GameSession session = new GameSession(world, sessionListener);
+        InputRecorder recorder = new InputRecorder(session, new InputRecording(world.getSeed(), 0, 0));
+        GameMenu gameMenu = session.getGameMenu();
+        exit = false;
+
+        for(int tick = 0; tick < maxTicks && !exit && !world.isEnd(); tick++)
+        {
+            int action = random.nextInt(100);
+
+            if(world.isPaused())
+            {
+                if(action < 5)
+                {
+                    // Pause menu: Resume.
+                    Rectangle bounds = gameMenu.getItemBounds(0);
+                    recorder.check(bounds.x + 1, bounds.y + 1);
+                }
+            }
+            else if(action < 20)
+            {
+                recorder.move(random.nextFloat() * 20 - 10);
+            }
+            else if(action < 25)
+            {
+                recorder.check(1, 1);
+            }
+            else if(action == 25 && random.nextInt(100) == 0)
+            {
+                recorder.back();
+            }
+
+            session.update(step);
+        }
+
+        return recorder;
+    }
+
+    private GameSession.SessionListener sessionListener = new GameSession.SessionListener()
+    {
+        @Override
+        public void buttonClicked()
+        {
+        }
+
+        @Override
+        public void gameMenuChanged(GameMenu.Type type)
+        {
+        }
+
+        @Override
+        public void exit()
+        {
+            exit = true;
+        }
+    };
+
+    public static void main(String[] args) throws IOException
+    {
+        if(args.length < 2)
+        {
+            System.out.println("Usage: SessionGenerator <submission directory> <count> [seed]");
+
+            return;
+        }
+
+        File directory = new File(args[0]);
+        int count = Integer.parseInt(args[1]);
+        SessionGenerator generator = new SessionGenerator(args.length > 2 ? Long.parseLong(args[2]) : System.nanoTime());
+
+        if(!directory.isDirectory() && !directory.mkdirs())
+        {
+            throw new IOException("Cannot create directory: " + directory);
+        }
+
+        for(int i = 0; i < count; i++)
+        {
+            InputRecorder recorder = generator.play(ScoreValidator.MAX_TICKS);
+            String id = String.format("session%05d", i);
+            OutputStream out = new FileOutputStream(new File(directory, id + DirectorySubmissionQueue.RECORDING_EXTENSION));
+
+            try
+            {
+                recorder.getRecording().write(out);
+            }
+            finally
+            {
+                out.close();
+            }
+
+            LaserCannon laserCannon = recorder.getSession().getWorld().getLaserCannon();
+            int points = i % 10 == 9 ? laserCannon.points + 100 : laserCannon.points;
+            DirectorySubmissionQueue.writeScore(directory, id, new Score(points, laserCannon.level, laserCannon.lives));
+        }
+
+        System.out.println(count + " sessions written to " + directory);
+    }
+}
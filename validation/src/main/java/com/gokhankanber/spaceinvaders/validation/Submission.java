@@ -0,0 +1,55 @@
+/*
+ * Copyright 2018 Gökhan Kanber
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.gokhankanber.spaceinvaders.validation;
+
+/**
+ * Uploaded session: recording bytes as written by InputRecording, and the score reported by client.
+ * Recording is parsed by validator, so a malformed upload fails only its own validation.
+ */
+public class Submission
+{
+    private final String id;
+    private final byte[] recording;
+    private final Score claimedScore;
+
+    /**
+     * @param id of submission.
+     * @param recording bytes of input recording.
+     * @param claimedScore reported by client, or null if it could not be read.
+     */
+    public Submission(String id, byte[] recording, Score claimedScore)
+    {
+        this.id = id;
+        this.recording = recording;
+        this.claimedScore = claimedScore;
+    }
+
+    public String getId()
+    {
+        return id;
+    }
+
+    public byte[] getRecording()
+    {
+        return recording;
+    }
+
+    public Score getClaimedScore()
+    {
+        return claimedScore;
+    }
+}